@@ -0,0 +1,83 @@
+package org.opencdmp.deposit.dataverse.benchmark;
+
+import org.opencdmp.deposit.dataverse.configuration.CompiledSemantics;
+import org.opencdmp.deposit.dataverse.configuration.SemanticsProperties;
+import org.opencdmp.deposit.dataverse.model.builder.DataverseBuilder;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.DescriptionTemplateIndexCacheProperties;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.TemplateFieldSearcherServiceImpl;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkSupport {
+
+    public static final String DESCRIPTION_TEMPLATE_INDEX_CACHE = "descriptionTemplateIndex";
+
+    public static final List<String> RELATION_TYPES = List.of(
+            "dataverse.related_publication.relation_type.isCitedBy",
+            "dataverse.related_publication.relation_type.Cites",
+            "dataverse.related_publication.relation_type.References");
+
+    public static final List<String> IDENTIFIER_TYPES = List.of(
+            "dataverse.related_publication.identifier_type.ark",
+            "dataverse.related_publication.identifier_type.doi",
+            "dataverse.related_publication.identifier_type.handle",
+            "dataverse.related_publication.identifier_type.url");
+
+    public static final List<String> CONTRIBUTOR_TYPES = List.of(
+            "dataverse.contributor.type.data_collector",
+            "dataverse.contributor.type.data_curator",
+            "dataverse.contributor.type.editor",
+            "dataverse.contributor.type.funder",
+            "dataverse.contributor.type.other");
+
+    private BenchmarkSupport() {
+    }
+
+    public static TemplateFieldSearcherServiceImpl templateFieldSearcherService(boolean cached) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (cached) beanFactory.addBean("cacheManager", new ConcurrentMapCacheManager(DESCRIPTION_TEMPLATE_INDEX_CACHE));
+        DescriptionTemplateIndexCacheProperties cacheProperties = new DescriptionTemplateIndexCacheProperties();
+        cacheProperties.setName(DESCRIPTION_TEMPLATE_INDEX_CACHE);
+        cacheProperties.setKeyPattern("benchmark_$template$_$version$");
+        return new TemplateFieldSearcherServiceImpl(beanFactory.getBeanProvider(CacheManager.class), cacheProperties);
+    }
+
+    public static DataverseBuilder dataverseBuilder(boolean cached) {
+        return new DataverseBuilder(templateFieldSearcherService(cached), dataverseServiceProperties(), compiledSemantics());
+    }
+
+    public static DataverseServiceProperties dataverseServiceProperties() {
+        DataverseServiceProperties properties = new DataverseServiceProperties();
+        properties.setDomain("https://opencdmp.example.org/");
+        properties.setAlias("benchmark");
+        properties.setLicenseReferenceCode("licenses");
+        properties.setOrganizationReferenceCode("organisations");
+        properties.setFunderReferenceCode("funders");
+        properties.setResearcherReferenceCode("researchers");
+        return properties;
+    }
+
+    public static CompiledSemantics compiledSemantics() {
+        return new CompiledSemantics(semanticsProperties());
+    }
+
+    public static SemanticsProperties semanticsProperties() {
+        SemanticsProperties properties = new SemanticsProperties();
+        properties.setRelationType(RELATION_TYPES);
+        properties.setIdentifierType(IDENTIFIER_TYPES);
+        List<SemanticsProperties.Contributor> contributorTypes = new ArrayList<>();
+        for (String code : CONTRIBUTOR_TYPES) {
+            SemanticsProperties.Contributor contributor = new SemanticsProperties.Contributor();
+            contributor.setCode(code);
+            contributor.setValue(code.substring(code.lastIndexOf('.') + 1));
+            contributorTypes.add(contributor);
+        }
+        properties.setContributorType(contributorTypes);
+        return properties;
+    }
+}
@@ -0,0 +1,62 @@
+package org.opencdmp.deposit.dataverse.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.opencdmp.deposit.dataverse.model.DataverseDataset;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDatasetWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatasetSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int descriptions;
+
+    @Param({"20"})
+    private int fieldSets;
+
+    @Param({"2"})
+    private int items;
+
+    @Param({"20"})
+    private int references;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private DataverseDatasetWriter datasetWriter;
+
+    private DataverseDataset dataset;
+
+    private ByteArrayOutputStream outputStream;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlanModelGenerator.Shape shape = new PlanModelGenerator.Shape();
+        shape.setDescriptions(this.descriptions);
+        shape.setFieldSets(this.fieldSets);
+        shape.setItems(this.items);
+        shape.setReferences(this.references);
+        this.dataset = BenchmarkSupport.dataverseBuilder(true).build(new PlanModelGenerator(42L).generate(shape));
+        this.datasetWriter = new DataverseDatasetWriter();
+        this.outputStream = new ByteArrayOutputStream(64 * 1024);
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        this.outputStream.reset();
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(this.outputStream, JsonEncoding.UTF8)) {
+            this.datasetWriter.write(generator, this.dataset);
+        }
+        return this.outputStream.size();
+    }
+}
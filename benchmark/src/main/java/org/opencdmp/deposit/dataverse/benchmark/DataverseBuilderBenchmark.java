@@ -0,0 +1,63 @@
+package org.opencdmp.deposit.dataverse.benchmark;
+
+import org.opencdmp.commonmodels.models.plan.PlanModel;
+import org.opencdmp.deposit.dataverse.model.builder.DataverseBuilder;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataverseBuilderBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int descriptions;
+
+    @Param({"20"})
+    private int fieldSets;
+
+    @Param({"0"})
+    private int fieldsPerSet;
+
+    @Param({"1.0"})
+    private double semanticsDensity;
+
+    @Param({"2"})
+    private int items;
+
+    @Param({"20"})
+    private int references;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private DataverseBuilder dataverseBuilder;
+
+    private PlanModel planModel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DataverseServiceProperties dataverseServiceProperties = BenchmarkSupport.dataverseServiceProperties();
+        dataverseServiceProperties.getBuild().setParallel(this.parallel);
+        dataverseServiceProperties.getBuild().setParallelThreshold(2);
+        this.dataverseBuilder = new DataverseBuilder(BenchmarkSupport.templateFieldSearcherService(true), dataverseServiceProperties, BenchmarkSupport.compiledSemantics());
+        PlanModelGenerator.Shape shape = new PlanModelGenerator.Shape();
+        shape.setDescriptions(this.descriptions);
+        shape.setFieldSets(this.fieldSets);
+        shape.setFieldsPerSet(this.fieldsPerSet);
+        shape.setSemanticsDensity(this.semanticsDensity);
+        shape.setItems(this.items);
+        shape.setReferences(this.references);
+        this.planModel = new PlanModelGenerator(42L).generate(shape);
+    }
+
+    @Benchmark
+    public Object build() {
+        return this.dataverseBuilder.build(this.planModel);
+    }
+}
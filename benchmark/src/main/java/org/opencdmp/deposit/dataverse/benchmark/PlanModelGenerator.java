@@ -0,0 +1,238 @@
+package org.opencdmp.deposit.dataverse.benchmark;
+
+import org.opencdmp.commonmodels.enums.FieldType;
+import org.opencdmp.commonmodels.enums.PlanAccessType;
+import org.opencdmp.commonmodels.enums.PlanUserRole;
+import org.opencdmp.commonmodels.models.PlanUserModel;
+import org.opencdmp.commonmodels.models.UserModel;
+import org.opencdmp.commonmodels.models.description.DescriptionModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.DefinitionModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.DescriptionTemplateModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.FieldSetModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.PageModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.SectionModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.fielddata.LabelDataModel;
+import org.opencdmp.commonmodels.models.plan.PlanModel;
+import org.opencdmp.commonmodels.models.planreference.PlanReferenceModel;
+import org.opencdmp.commonmodels.models.reference.ReferenceModel;
+import org.opencdmp.commonmodels.models.reference.ReferenceTypeModel;
+
+import java.time.Instant;
+import java.util.*;
+
+public class PlanModelGenerator {
+
+    private static final List<List<String>> FIELD_SET_SEMANTICS = List.of(
+            List.of("dataverse.dataset.description"),
+            List.of("dataverse.dataset.subject"),
+            List.of("dataverse.dataset.alternative_title"),
+            List.of("dataverse.dataset.notes"),
+            List.of("dataverse.author.name", "dataverse.author.affiliation"),
+            List.of("dataverse.point_of_contact.name", "dataverse.point_of_contact.email", "dataverse.point_of_contact.affiliation"),
+            List.of("dataverse.keyword.term", "dataverse.keyword.term_uri", "dataverse.keyword.controlled_vocabulary_name", "dataverse.keyword.controlled_vocabulary_url"),
+            List.of("dataverse.other_identifier.agency", "dataverse.other_identifier.identifier"),
+            List.of("dataverse.contributor.type.editor"),
+            List.of("dataverse.related_publication.identifier_type.doi", "dataverse.related_publication.relation_type.Cites")
+    );
+
+    private static final List<String> REFERENCE_TYPE_CODES = List.of("licenses", "organisations", "funders", "researchers");
+
+    private static final int UNMAPPED_SEMANTICS = 8;
+
+    private final Random random;
+
+    public PlanModelGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public PlanModel generate(int descriptions, int fieldSets, int items) {
+        Shape shape = new Shape();
+        shape.setDescriptions(descriptions);
+        shape.setFieldSets(fieldSets);
+        shape.setItems(items);
+        return this.generate(shape);
+    }
+
+    public PlanModel generate(Shape shape) {
+        PlanModel planModel = new PlanModel();
+        planModel.setId(new UUID(this.random.nextLong(), this.random.nextLong()));
+        planModel.setLabel("Benchmark plan");
+        planModel.setDescription("Benchmark plan description");
+        planModel.setAccessType(PlanAccessType.Public);
+        planModel.setFinalizedAt(Instant.parse("2024-01-01T00:00:00Z"));
+
+        PlanUserModel owner = new PlanUserModel();
+        UserModel user = new UserModel();
+        user.setName("Benchmark Owner");
+        owner.setUser(user);
+        owner.setRole(PlanUserRole.Owner);
+        planModel.setUsers(List.of(owner));
+        planModel.setReferences(this.references(shape.getReferences()));
+
+        DescriptionTemplateModel template = this.template(shape);
+        List<DescriptionModel> descriptionModels = new ArrayList<>(shape.getDescriptions());
+        for (int i = 0; i < shape.getDescriptions(); i++) descriptionModels.add(this.description(template, shape.getItems()));
+        planModel.setDescriptions(descriptionModels);
+        return planModel;
+    }
+
+    public DescriptionTemplateModel template(Shape shape) {
+        DescriptionTemplateModel template = new DescriptionTemplateModel();
+        template.setId(new UUID(this.random.nextLong(), this.random.nextLong()));
+        template.setVersion((short) 1);
+
+        List<FieldSetModel> fieldSetModels = new ArrayList<>(shape.getFieldSets());
+        for (int i = 0; i < shape.getFieldSets(); i++) {
+            FieldSetModel fieldSetModel = new FieldSetModel();
+            fieldSetModel.setId("fs" + i);
+            fieldSetModel.setOrdinal(i);
+            List<String> semantics = FIELD_SET_SEMANTICS.get(i % FIELD_SET_SEMANTICS.size());
+            int fields = shape.getFieldsPerSet() > 0 ? shape.getFieldsPerSet() : semantics.size();
+            List<FieldModel> fieldModels = new ArrayList<>(fields);
+            for (int j = 0; j < fields; j++) {
+                FieldModel fieldModel = new FieldModel();
+                fieldModel.setId("fs" + i + "_f" + j);
+                fieldModel.setOrdinal(j);
+                boolean mapped = shape.getSemanticsDensity() >= 1 || this.random.nextDouble() < shape.getSemanticsDensity();
+                fieldModel.setSemantics(List.of(mapped ? semantics.get(j % semantics.size()) : "benchmark.unmapped." + (j % UNMAPPED_SEMANTICS)));
+                LabelDataModel data = new LabelDataModel();
+                data.setFieldType(FieldType.FREE_TEXT);
+                fieldModel.setData(data);
+                fieldModels.add(fieldModel);
+            }
+            fieldSetModel.setFields(fieldModels);
+            fieldSetModels.add(fieldSetModel);
+        }
+
+        SectionModel section = new SectionModel();
+        section.setId("section");
+        section.setOrdinal(0);
+        section.setFieldSets(fieldSetModels);
+        PageModel page = new PageModel();
+        page.setId("page");
+        page.setOrdinal(0);
+        page.setSections(List.of(section));
+        DefinitionModel definition = new DefinitionModel();
+        definition.setPages(List.of(page));
+        template.setDefinition(definition);
+        return template;
+    }
+
+    private List<PlanReferenceModel> references(int references) {
+        List<PlanReferenceModel> planReferences = new ArrayList<>(references);
+        for (int i = 0; i < references; i++) {
+            ReferenceTypeModel type = new ReferenceTypeModel();
+            type.setCode(REFERENCE_TYPE_CODES.get(i % REFERENCE_TYPE_CODES.size()));
+            ReferenceModel reference = new ReferenceModel();
+            reference.setId(new UUID(this.random.nextLong(), this.random.nextLong()));
+            reference.setLabel(type.getCode() + " " + i);
+            reference.setReference(type.getCode() + "::" + this.random.nextInt(100000));
+            reference.setType(type);
+            PlanReferenceModel planReference = new PlanReferenceModel();
+            planReference.setReference(reference);
+            planReferences.add(planReference);
+        }
+        return planReferences;
+    }
+
+    private DescriptionModel description(DescriptionTemplateModel template, int items) {
+        DescriptionModel descriptionModel = new DescriptionModel();
+        descriptionModel.setDescriptionTemplate(template);
+
+        Map<String, PropertyDefinitionFieldSetModel> fieldSets = new HashMap<>();
+        for (PageModel page : template.getDefinition().getPages()) {
+            for (SectionModel section : page.getSections()) {
+                for (FieldSetModel fieldSetModel : section.getFieldSets()) {
+                    List<PropertyDefinitionFieldSetItemModel> fieldSetItems = new ArrayList<>(items);
+                    for (int i = 0; i < items; i++) {
+                        Map<String, org.opencdmp.commonmodels.models.description.FieldModel> fields = new HashMap<>();
+                        for (FieldModel fieldModel : fieldSetModel.getFields()) {
+                            org.opencdmp.commonmodels.models.description.FieldModel value = new org.opencdmp.commonmodels.models.description.FieldModel();
+                            value.setId(fieldModel.getId());
+                            value.setTextValue("value " + this.random.nextInt(1000));
+                            fields.put(fieldModel.getId(), value);
+                        }
+                        PropertyDefinitionFieldSetItemModel fieldSetItem = new PropertyDefinitionFieldSetItemModel();
+                        fieldSetItem.setOrdinal(i);
+                        fieldSetItem.setFields(fields);
+                        fieldSetItems.add(fieldSetItem);
+                    }
+                    PropertyDefinitionFieldSetModel propertyFieldSet = new PropertyDefinitionFieldSetModel();
+                    propertyFieldSet.setItems(fieldSetItems);
+                    fieldSets.put(fieldSetModel.getId(), propertyFieldSet);
+                }
+            }
+        }
+        PropertyDefinitionModel properties = new PropertyDefinitionModel();
+        properties.setFieldSets(fieldSets);
+        descriptionModel.setProperties(properties);
+        return descriptionModel;
+    }
+
+    public static class Shape {
+
+        private int descriptions = 1;
+
+        private int fieldSets = 20;
+
+        private int fieldsPerSet = 0;
+
+        private double semanticsDensity = 1;
+
+        private int items = 1;
+
+        private int references = 0;
+
+        public int getDescriptions() {
+            return descriptions;
+        }
+
+        public void setDescriptions(int descriptions) {
+            this.descriptions = descriptions;
+        }
+
+        public int getFieldSets() {
+            return fieldSets;
+        }
+
+        public void setFieldSets(int fieldSets) {
+            this.fieldSets = fieldSets;
+        }
+
+        public int getFieldsPerSet() {
+            return fieldsPerSet;
+        }
+
+        public void setFieldsPerSet(int fieldsPerSet) {
+            this.fieldsPerSet = fieldsPerSet;
+        }
+
+        public double getSemanticsDensity() {
+            return semanticsDensity;
+        }
+
+        public void setSemanticsDensity(double semanticsDensity) {
+            this.semanticsDensity = semanticsDensity;
+        }
+
+        public int getItems() {
+            return items;
+        }
+
+        public void setItems(int items) {
+            this.items = items;
+        }
+
+        public int getReferences() {
+            return references;
+        }
+
+        public void setReferences(int references) {
+            this.references = references;
+        }
+    }
+}
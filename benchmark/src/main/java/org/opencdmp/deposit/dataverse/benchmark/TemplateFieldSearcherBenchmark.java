@@ -0,0 +1,64 @@
+package org.opencdmp.deposit.dataverse.benchmark;
+
+import org.opencdmp.commonmodels.models.descriptiotemplate.DescriptionTemplateModel;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.DescriptionTemplateIndex;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.TemplateFieldSearcherServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateFieldSearcherBenchmark {
+
+    private static final List<List<String>> SEARCHED_SEMANTICS = List.of(
+            List.of("dataverse.author.name", "dataverse.author.affiliation"),
+            List.of("dataverse.point_of_contact.name", "dataverse.point_of_contact.email", "dataverse.point_of_contact.affiliation"),
+            List.of("dataverse.related_publication.identifier_type", "dataverse.related_publication.relation_type", "dataverse.related_publication.citation", "dataverse.related_publication.identifier", "dataverse.related_publication.url"),
+            List.of("dataverse.keyword.term", "dataverse.keyword.term_uri", "dataverse.keyword.controlled_vocabulary_name", "dataverse.keyword.controlled_vocabulary_url"),
+            List.of("dataverse.other_identifier.agency", "dataverse.other_identifier.identifier")
+    );
+
+    @Param({"20", "200", "2000"})
+    private int fieldSets;
+
+    @Param({"5"})
+    private int fieldsPerSet;
+
+    @Param({"0.1", "0.5", "1.0"})
+    private double semanticsDensity;
+
+    private TemplateFieldSearcherServiceImpl templateFieldSearcherService;
+
+    private DescriptionTemplateModel template;
+
+    private DescriptionTemplateIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlanModelGenerator.Shape shape = new PlanModelGenerator.Shape();
+        shape.setFieldSets(this.fieldSets);
+        shape.setFieldsPerSet(this.fieldsPerSet);
+        shape.setSemanticsDensity(this.semanticsDensity);
+        this.template = new PlanModelGenerator(42L).template(shape);
+        this.templateFieldSearcherService = BenchmarkSupport.templateFieldSearcherService(false);
+        this.index = this.templateFieldSearcherService.buildIndex(this.template);
+    }
+
+    @Benchmark
+    public void searchFieldSetsBySemantics(Blackhole blackhole) {
+        for (List<String> semantics : SEARCHED_SEMANTICS) blackhole.consume(this.templateFieldSearcherService.searchFieldSetsBySemantics(this.index, semantics));
+    }
+
+    @Benchmark
+    public void buildIndexAndSearch(Blackhole blackhole) {
+        DescriptionTemplateIndex index = this.templateFieldSearcherService.buildIndex(this.template);
+        for (List<String> semantics : SEARCHED_SEMANTICS) blackhole.consume(this.templateFieldSearcherService.searchFieldSetsBySemantics(index, semantics));
+    }
+}
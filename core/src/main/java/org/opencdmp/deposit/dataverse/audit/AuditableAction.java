@@ -9,6 +9,9 @@ public class AuditableAction {
     public static final EventId Deposit_Authenticate = new EventId(1001, "Deposit_Authenticate");
     public static final EventId Deposit_GetConfiguration = new EventId(1002, "Deposit_GetConfiguration");
     public static final EventId Deposit_GetLogo = new EventId(1003, "Deposit_GetLogo");
+    public static final EventId Deposit_SubmitJob = new EventId(1004, "Deposit_SubmitJob");
+    public static final EventId Deposit_GetJob = new EventId(1005, "Deposit_GetJob");
+    public static final EventId Deposit_DepositBatch = new EventId(1006, "Deposit_DepositBatch");
 
     
 }
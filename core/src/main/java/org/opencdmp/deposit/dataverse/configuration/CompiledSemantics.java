@@ -0,0 +1,77 @@
+package org.opencdmp.deposit.dataverse.configuration;
+
+import gr.cite.tools.exception.MyApplicationException;
+
+import java.util.*;
+
+public class CompiledSemantics {
+
+    private static final int VOCABULARY_VALUE_SEGMENT = 3;
+
+    private final List<ContributorType> contributorTypes;
+
+    private final List<IdentifierType> identifierTypes;
+
+    private final Map<String, String> relationTypes;
+
+    public CompiledSemantics(SemanticsProperties semanticsProperties) {
+        List<ContributorType> contributorTypes = new ArrayList<>();
+        if (semanticsProperties.getContributorType() != null) {
+            for (SemanticsProperties.Contributor contributor : semanticsProperties.getContributorType()) {
+                if (contributor == null || contributor.getCode() == null || contributor.getCode().isBlank()) throw new MyApplicationException("Invalid semantics.contributor-type entry: missing code");
+                if (contributor.getValue() == null || contributor.getValue().isBlank()) throw new MyApplicationException("Invalid semantics.contributor-type entry " + contributor.getCode() + ": missing value");
+                contributorTypes.add(new ContributorType(contributor.getCode(), contributor.getValue()));
+            }
+        }
+        this.contributorTypes = List.copyOf(contributorTypes);
+
+        List<IdentifierType> identifierTypes = new ArrayList<>();
+        if (semanticsProperties.getIdentifierType() != null) {
+            for (String code : semanticsProperties.getIdentifierType()) {
+                identifierTypes.add(new IdentifierType(code, vocabularyValue("semantics.identifier-type", code)));
+            }
+        }
+        this.identifierTypes = List.copyOf(identifierTypes);
+
+        Map<String, String> relationTypes = new HashMap<>();
+        if (semanticsProperties.getRelationType() != null) {
+            for (String code : semanticsProperties.getRelationType()) {
+                relationTypes.putIfAbsent(code, vocabularyValue("semantics.relation-type", code));
+            }
+        }
+        this.relationTypes = Map.copyOf(relationTypes);
+    }
+
+    public List<ContributorType> getContributorTypes() {
+        return contributorTypes;
+    }
+
+    public List<IdentifierType> getIdentifierTypes() {
+        return identifierTypes;
+    }
+
+    public String findRelationType(List<String> semantics) {
+        if (semantics == null) return null;
+        for (String semantic : semantics) {
+            if (semantic == null) continue;
+            String relationType = this.relationTypes.get(semantic);
+            if (relationType != null) return relationType;
+        }
+        return null;
+    }
+
+    private static String vocabularyValue(String property, String code) {
+        if (code == null || code.isBlank()) throw new MyApplicationException("Invalid " + property + " entry: missing code");
+        String[] segments = code.split("\\.");
+        if (segments.length <= VOCABULARY_VALUE_SEGMENT || segments[VOCABULARY_VALUE_SEGMENT].isBlank()) {
+            throw new MyApplicationException("Invalid " + property + " entry " + code + ": expected a code of the form dataverse.<block>.<type>.<value>");
+        }
+        return segments[VOCABULARY_VALUE_SEGMENT];
+    }
+
+    public record ContributorType(String code, String value) {
+    }
+
+    public record IdentifierType(String code, String value) {
+    }
+}
@@ -1,9 +1,15 @@
 package org.opencdmp.deposit.dataverse.configuration;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableConfigurationProperties({SemanticsProperties.class})
 public class SemanticsConfiguration {
+
+    @Bean
+    public CompiledSemantics compiledSemantics(SemanticsProperties semanticsProperties) {
+        return new CompiledSemantics(semanticsProperties);
+    }
 }
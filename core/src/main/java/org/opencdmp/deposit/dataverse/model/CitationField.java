@@ -1,37 +1,46 @@
 package org.opencdmp.deposit.dataverse.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class CitationField {
-    private String typeName;
-    private String typeClass;
-    private boolean multiple;
+    private CitationFieldDescriptor descriptor;
     private Object value;
 
+    @JsonIgnore
+    public CitationFieldDescriptor getDescriptor() {
+        return this.descriptor;
+    }
+
     public String getTypeName() {
-        return this.typeName;
+        return this.descriptor != null ? this.descriptor.typeName() : null;
     }
 
     public String getTypeClass() {
-        return this.typeClass;
+        return this.descriptor != null ? this.descriptor.typeClass() : null;
     }
 
     public boolean isMultiple() {
-        return this.multiple;
+        return this.descriptor != null && this.descriptor.multiple();
     }
 
     public Object getValue() {
         return this.value;
     }
 
+    public void setDescriptor(CitationFieldDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
     public void setTypeName(String typeName) {
-        this.typeName = typeName;
+        this.descriptor = new CitationFieldDescriptor(typeName, this.getTypeClass(), this.isMultiple());
     }
 
     public void setTypeClass(String typeClass) {
-        this.typeClass = typeClass;
+        this.descriptor = new CitationFieldDescriptor(this.getTypeName(), typeClass, this.isMultiple());
     }
 
     public void setMultiple(boolean multiple) {
-        this.multiple = multiple;
+        this.descriptor = new CitationFieldDescriptor(this.getTypeName(), this.getTypeClass(), multiple);
     }
 
     public void setValue(Object value) {
@@ -43,13 +52,15 @@ public class CitationField {
         return "CitationField(typeName=" + this.getTypeName() + ", typeClass=" + this.getTypeClass() + ", multiple=" + this.isMultiple() + ", value=" + this.getValue() + ")";
     }
 
-    public CitationField(String typeName, String typeClass, boolean multiple, Object value) {
-        this.typeName = typeName;
-        this.typeClass = typeClass;
-        this.multiple = multiple;
+    public CitationField(CitationFieldDescriptor descriptor, Object value) {
+        this.descriptor = descriptor;
         this.value = value;
     }
 
+    public CitationField(String typeName, String typeClass, boolean multiple, Object value) {
+        this(new CitationFieldDescriptor(typeName, typeClass, multiple), value);
+    }
+
     public CitationField() {
     }
 }
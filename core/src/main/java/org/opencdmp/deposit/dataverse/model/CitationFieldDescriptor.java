@@ -0,0 +1,4 @@
+package org.opencdmp.deposit.dataverse.model;
+
+public record CitationFieldDescriptor(String typeName, String typeClass, boolean multiple) {
+}
@@ -0,0 +1,55 @@
+package org.opencdmp.deposit.dataverse.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.*;
+
+public class CitationFieldGroup {
+    private final List<CitationField> fields;
+
+    public CitationFieldGroup() {
+        this.fields = new ArrayList<>(4);
+    }
+
+    public static CitationFieldGroup of(CitationField field) {
+        CitationFieldGroup group = new CitationFieldGroup();
+        group.put(field);
+        return group;
+    }
+
+    public void put(CitationField field) {
+        for (int i = 0; i < this.fields.size(); i++) {
+            if (Objects.equals(this.fields.get(i).getTypeName(), field.getTypeName())) {
+                this.fields.set(i, field);
+                return;
+            }
+        }
+        this.fields.add(field);
+    }
+
+    public CitationField get(String typeName) {
+        for (CitationField field : this.fields) {
+            if (Objects.equals(field.getTypeName(), typeName)) return field;
+        }
+        return null;
+    }
+
+    public List<CitationField> getFields() {
+        return Collections.unmodifiableList(this.fields);
+    }
+
+    public boolean isEmpty() {
+        return this.fields.isEmpty();
+    }
+
+    @JsonValue
+    public Map<String, CitationField> toMap() {
+        Map<String, CitationField> map = new LinkedHashMap<>();
+        for (CitationField field : this.fields) map.put(field.getTypeName(), field);
+        return map;
+    }
+
+    public String toString() {
+        return "CitationFieldGroup(fields=" + this.fields + ")";
+    }
+}
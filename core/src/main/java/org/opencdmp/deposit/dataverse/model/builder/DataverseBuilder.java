@@ -5,23 +5,23 @@ import org.opencdmp.commonmodels.enums.PlanAccessType;
 import org.opencdmp.commonmodels.enums.PlanUserRole;
 import org.opencdmp.commonmodels.models.PlanUserModel;
 import org.opencdmp.commonmodels.models.description.*;
-import org.opencdmp.commonmodels.models.descriptiotemplate.DefinitionModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.DescriptionTemplateModel;
 import org.opencdmp.commonmodels.models.descriptiotemplate.FieldSetModel;
-import org.opencdmp.commonmodels.models.descriptiotemplate.fielddata.RadioBoxDataModel;
-import org.opencdmp.commonmodels.models.descriptiotemplate.fielddata.SelectDataModel;
 import org.opencdmp.commonmodels.models.plan.PlanBlueprintValueModel;
 import org.opencdmp.commonmodels.models.plan.PlanContactModel;
 import org.opencdmp.commonmodels.models.plan.PlanModel;
-import org.opencdmp.commonmodels.models.planblueprint.SectionModel;
-import org.opencdmp.commonmodels.models.planreference.PlanReferenceModel;
 import org.opencdmp.commonmodels.models.reference.ReferenceModel;
-import org.opencdmp.deposit.dataverse.configuration.SemanticsProperties;
+import org.opencdmp.deposit.dataverse.configuration.CompiledSemantics;
 import org.opencdmp.deposit.dataverse.model.Citation;
 import org.opencdmp.deposit.dataverse.model.CitationField;
+import org.opencdmp.deposit.dataverse.model.CitationFieldDescriptor;
+import org.opencdmp.deposit.dataverse.model.CitationFieldGroup;
 import org.opencdmp.deposit.dataverse.model.DataSetMetadataBlock;
 import org.opencdmp.deposit.dataverse.model.DataverseDataset;
 import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositServiceImpl;
 import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.DescriptionTemplateIndex;
+import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.FieldOptionsIndex;
 import org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher.TemplateFieldSearcherService;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +33,8 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 @Component
@@ -51,6 +53,43 @@ public class DataverseBuilder {
     private static final String FIELD_TYPE_CLASS_COMPOUND = "compound";
     private static final String FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY = "controlledVocabulary";
 
+    private static final CitationFieldDescriptor CITATION_FIELD_TITLE = new CitationFieldDescriptor("title", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_DS_DESCRIPTION = new CitationFieldDescriptor("dsDescription", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_ALTERNATIVE_TITLE = new CitationFieldDescriptor("alternativeTitle", FIELD_TYPE_CLASS_PRIMITIVE, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_SUBTITLE = new CitationFieldDescriptor("subtitle", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_NOTES_TEXT = new CitationFieldDescriptor("notesText", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_SUBJECT = new CitationFieldDescriptor("subject", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_ALTERNATIVE_URL = new CitationFieldDescriptor("alternativeURL", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_DATE_OF_DEPOSIT = new CitationFieldDescriptor("dateOfDeposit", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_AUTHOR = new CitationFieldDescriptor("author", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_DATASET_CONTACT = new CitationFieldDescriptor("datasetContact", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_CONTRIBUTOR = new CitationFieldDescriptor("contributor", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_FUNDING = new CitationFieldDescriptor("funding", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION = new CitationFieldDescriptor("publication", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_KEYWORD = new CitationFieldDescriptor("keyword", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_OTHER_IDENTIFIER = new CitationFieldDescriptor("otherIdentifier", FIELD_TYPE_CLASS_COMPOUND, true);
+    private static final CitationFieldDescriptor CITATION_FIELD_DS_DESCRIPTION_VALUE = new CitationFieldDescriptor("dsDescriptionValue", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_CONTRIBUTOR_TYPE = new CitationFieldDescriptor("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_CONTRIBUTOR_NAME = new CitationFieldDescriptor("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION_ID_TYPE = new CitationFieldDescriptor("publicationIDType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION_ID_NUMBER = new CitationFieldDescriptor("publicationIDNumber", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION_RELATION_TYPE = new CitationFieldDescriptor("publicationRelationType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_AUTHOR_NAME = new CitationFieldDescriptor("authorName", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_AUTHOR_AFFILIATION = new CitationFieldDescriptor("authorAffiliation", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_FUNDING_AGENCY = new CitationFieldDescriptor("fundingAgency", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_FUNDING_AGENCY_GRANT_NUMBER = new CitationFieldDescriptor("fundingAgencyGrantNumber", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_DATASET_CONTACT_NAME = new CitationFieldDescriptor("datasetContactName", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_DATASET_CONTACT_EMAIL = new CitationFieldDescriptor("datasetContactEmail", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_DATASET_CONTACT_AFFILIATION = new CitationFieldDescriptor("datasetContactAffiliation", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION_CITATION = new CitationFieldDescriptor("publicationCitation", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_PUBLICATION_URL = new CitationFieldDescriptor("publicationURL", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_KEYWORD_VALUE = new CitationFieldDescriptor("keywordValue", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_KEYWORD_TERM_URI = new CitationFieldDescriptor("keywordTermURI", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_KEYWORD_VOCABULARY = new CitationFieldDescriptor("keywordVocabulary", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_KEYWORD_VOCABULARY_URI = new CitationFieldDescriptor("keywordVocabularyURI", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_OTHER_IDENTIFIER_AGENCY = new CitationFieldDescriptor("otherIdentifierAgency", FIELD_TYPE_CLASS_PRIMITIVE, false);
+    private static final CitationFieldDescriptor CITATION_FIELD_OTHER_IDENTIFIER_VALUE = new CitationFieldDescriptor("otherIdentifierValue", FIELD_TYPE_CLASS_PRIMITIVE, false);
+
     private static final String SEMANTIC_DATAVERSE_IDENTIFIER = "dataverse.identifier";
     private static final String SEMANTIC_DATAVERSE_SUBJECT = "dataverse.dataset.subject";
     private static final String SEMANTIC_DATAVERSE_DESCRIPTION = "dataverse.dataset.description";
@@ -81,52 +120,84 @@ public class DataverseBuilder {
     private static final String SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_AGENCY = "dataverse.other_identifier.agency";
     private static final String SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_IDENTIFIER = "dataverse.other_identifier.identifier";
 
+    private static final FieldSetCitation FIELD_SET_CITATION_AUTHOR = new FieldSetCitation("author", List.of(
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_AUTHOR_NAME, CITATION_FIELD_AUTHOR_NAME),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_AUTHOR_AFFILIATION, CITATION_FIELD_AUTHOR_AFFILIATION)));
+    private static final FieldSetCitation FIELD_SET_CITATION_CONTACT = new FieldSetCitation("datasetContact", List.of(
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_CONTACT_NAME, CITATION_FIELD_DATASET_CONTACT_NAME),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_CONTACT_EMAIL, CITATION_FIELD_DATASET_CONTACT_EMAIL),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_CONTACT_AFFILIATION, CITATION_FIELD_DATASET_CONTACT_AFFILIATION)));
+    private static final FieldSetCitation FIELD_SET_CITATION_PUBLICATION = new FieldSetCitation("publication", List.of(
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER_TYPE, CITATION_FIELD_PUBLICATION_ID_TYPE),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_RELATED_PUBLICATION_RELATION_TYPE, CITATION_FIELD_PUBLICATION_RELATION_TYPE),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_RELATED_PUBLICATION_CITATION, CITATION_FIELD_PUBLICATION_CITATION),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER, CITATION_FIELD_PUBLICATION_ID_NUMBER),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_RELATED_PUBLICATION_URL, CITATION_FIELD_PUBLICATION_URL)));
+    private static final FieldSetCitation FIELD_SET_CITATION_KEYWORD = new FieldSetCitation("keyword", List.of(
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_KEYWORD_TERM, CITATION_FIELD_KEYWORD_VALUE),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_KEYWORD_TERM_URI, CITATION_FIELD_KEYWORD_TERM_URI),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_NAME, CITATION_FIELD_KEYWORD_VOCABULARY),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_URL, CITATION_FIELD_KEYWORD_VOCABULARY_URI)));
+    private static final FieldSetCitation FIELD_SET_CITATION_OTHER_IDENTIFIER = new FieldSetCitation("otherIdentifier", List.of(
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_AGENCY, CITATION_FIELD_OTHER_IDENTIFIER_AGENCY),
+            new FieldSetCitationValue(SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_IDENTIFIER, CITATION_FIELD_OTHER_IDENTIFIER_VALUE)));
+    private static final List<FieldSetCitation> FIELD_SET_CITATIONS = List.of(FIELD_SET_CITATION_AUTHOR, FIELD_SET_CITATION_CONTACT, FIELD_SET_CITATION_PUBLICATION, FIELD_SET_CITATION_KEYWORD, FIELD_SET_CITATION_OTHER_IDENTIFIER);
+
     private final DataverseServiceProperties dataverseServiceProperties;
-    private final SemanticsProperties semanticsProperties;
+    private final CompiledSemantics semantics;
+    private final List<CompiledSemantics.ContributorType> contributorTypes;
+    private final List<CompiledSemantics.IdentifierType> identifierTypes;
+    private final Map<String, List<DescriptionFieldCollector>> descriptionFieldCollectors;
 
     @Autowired
-    public DataverseBuilder(TemplateFieldSearcherService templateFieldSearcherService, DataverseServiceProperties dataverseServiceProperties, SemanticsProperties semanticsProperties){
+    public DataverseBuilder(TemplateFieldSearcherService templateFieldSearcherService, DataverseServiceProperties dataverseServiceProperties, CompiledSemantics semantics){
         this.templateFieldSearcherService = templateFieldSearcherService;
         this.dataverseServiceProperties = dataverseServiceProperties;
-        this.semanticsProperties = semanticsProperties;
+        this.semantics = semantics;
+        this.contributorTypes = semantics.getContributorTypes();
+        this.identifierTypes = semantics.getIdentifierTypes();
+        this.descriptionFieldCollectors = this.buildDescriptionFieldCollectors();
     }
 
     public DataverseDataset build(PlanModel planModel) {
         DataverseDataset dataset = new DataverseDataset();
 
         if (planModel == null) return dataset;
+        PlanLookupContext lookupContext = PlanLookupContext.of(planModel);
+        List<DescriptionCitationFields> descriptionCitationFields = this.collectDescriptionFields(planModel);
+
         org.opencdmp.deposit.dataverse.model.DatasetVersion version = new org.opencdmp.deposit.dataverse.model.DatasetVersion();
         DataSetMetadataBlock metadataBlock = new DataSetMetadataBlock();
         Citation citation = new Citation();
         List<CitationField> fields = new ArrayList<>();
-        fields.add(new CitationField("title", FIELD_TYPE_CLASS_PRIMITIVE, false, planModel.getLabel()));
-        fields.add(new CitationField("dsDescription", FIELD_TYPE_CLASS_COMPOUND, true, this.buildDescriptionFields(planModel)));
-        fields.add(new CitationField("alternativeTitle", FIELD_TYPE_CLASS_PRIMITIVE, true, this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_ALTERNATIVE_TITLE)));
+        fields.add(new CitationField(CITATION_FIELD_TITLE, planModel.getLabel()));
+        fields.add(new CitationField(CITATION_FIELD_DS_DESCRIPTION, this.buildDescriptionFields(planModel, lookupContext, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_ALTERNATIVE_TITLE, this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_ALTERNATIVE_TITLE, descriptionCitationFields)));
 
-        List<String> subtitle = this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_SUBTITLE);
-        if (!subtitle.isEmpty()) fields.add(new CitationField("subtitle", FIELD_TYPE_CLASS_PRIMITIVE, false, subtitle.getFirst()));
+        List<String> subtitle = this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_SUBTITLE, descriptionCitationFields);
+        if (!subtitle.isEmpty()) fields.add(new CitationField(CITATION_FIELD_SUBTITLE, subtitle.getFirst()));
 
-        List<String> notes = this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_NOTES);
-        if (!notes.isEmpty()) fields.add(new CitationField("notesText", FIELD_TYPE_CLASS_PRIMITIVE, false, notes.getFirst()));
+        List<String> notes = this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_NOTES, descriptionCitationFields);
+        if (!notes.isEmpty()) fields.add(new CitationField(CITATION_FIELD_NOTES_TEXT, notes.getFirst()));
 
-        List<String> subjectFields = this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_SUBJECT);
+        List<String> subjectFields = this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_SUBJECT, descriptionCitationFields);
         if (subjectFields.isEmpty()) subjectFields.add(SUBJECT_OTHER);
-        fields.add(new CitationField("subject", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, true, subjectFields));
+        fields.add(new CitationField(CITATION_FIELD_SUBJECT, subjectFields));
 
-        List<String> alternativeUrl = this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_ALTERNATIVE_URL);
+        List<String> alternativeUrl = this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_ALTERNATIVE_URL, descriptionCitationFields);
         String url = null;
         if (alternativeUrl.isEmpty() && planModel.getAccessType().equals(PlanAccessType.Public)) {
             url = dataverseServiceProperties.getDomain() + "explore-plans/overview/public/" + planModel.getId().toString();
         } else if (!alternativeUrl.isEmpty()) {
             url = alternativeUrl.getFirst();
         }
-        if (url != null) fields.add(new CitationField("alternativeURL", FIELD_TYPE_CLASS_PRIMITIVE, false, url));
+        if (url != null) fields.add(new CitationField(CITATION_FIELD_ALTERNATIVE_URL, url));
 
-        List<String> dateOfDeposit = this.buildListStringValue(planModel, SEMANTIC_DATAVERSE_DATE_OF_DEPOSIT);
+        List<String> dateOfDeposit = this.buildListStringValue(planModel, lookupContext, SEMANTIC_DATAVERSE_DATE_OF_DEPOSIT, descriptionCitationFields);
         try {
             if (!dateOfDeposit.isEmpty()) {
                 LocalDate.parse(dateOfDeposit.getFirst(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                fields.add(new CitationField("dateOfDeposit", FIELD_TYPE_CLASS_PRIMITIVE, false, dateOfDeposit.getFirst()));
+                fields.add(new CitationField(CITATION_FIELD_DATE_OF_DEPOSIT, dateOfDeposit.getFirst()));
             }
         } catch (Exception e) {
             if (!dateOfDeposit.isEmpty()) {
@@ -134,13 +205,13 @@ public class DataverseBuilder {
             }
         }
 
-        fields.add(new CitationField("author", FIELD_TYPE_CLASS_COMPOUND, true, this.buildAuthorsFields(planModel)));
-        fields.add(new CitationField("datasetContact", FIELD_TYPE_CLASS_COMPOUND, true, this.buildContactFields(planModel)));
-        fields.add(new CitationField("contributor", FIELD_TYPE_CLASS_COMPOUND, true, this.buildContributorsFields(planModel)));
-        fields.add(new CitationField("funding", FIELD_TYPE_CLASS_COMPOUND, true, this.buildFundingFields(planModel)));
-        fields.add(new CitationField("publication", FIELD_TYPE_CLASS_COMPOUND, true, this.buildRelatedPublicationFields(planModel)));
-        fields.add(new CitationField("keyword", FIELD_TYPE_CLASS_COMPOUND, true, this.buildKeywordsFields(planModel)));
-        fields.add(new CitationField("otherIdentifier", FIELD_TYPE_CLASS_COMPOUND, true, this.buildOtherIdentifierFields(planModel)));
+        fields.add(new CitationField(CITATION_FIELD_AUTHOR, this.buildAuthorsFields(planModel, lookupContext, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_DATASET_CONTACT, this.buildContactFields(planModel, lookupContext, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_CONTRIBUTOR, this.buildContributorsFields(planModel, lookupContext, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_FUNDING, this.buildFundingFields(planModel, lookupContext)));
+        fields.add(new CitationField(CITATION_FIELD_PUBLICATION, this.buildRelatedPublicationFields(planModel, lookupContext, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_KEYWORD, this.buildFieldSetCitationFields(FIELD_SET_CITATION_KEYWORD, descriptionCitationFields)));
+        fields.add(new CitationField(CITATION_FIELD_OTHER_IDENTIFIER, this.buildFieldSetCitationFields(FIELD_SET_CITATION_OTHER_IDENTIFIER, descriptionCitationFields)));
 
         citation.setFields(fields);
         metadataBlock.setCitation(citation);
@@ -151,31 +222,148 @@ public class DataverseBuilder {
         return dataset;
     }
 
-    private List<Map<String, CitationField>> buildDescriptionFields(PlanModel planModel) {
-        List<Map<String, CitationField>> citationFields = new ArrayList<>();
-        if (planModel == null) return citationFields;
+    //region description collectors
 
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-                List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fields = this.findSchematicValues(SEMANTIC_DATAVERSE_DESCRIPTION, descriptionModel.getDescriptionTemplate().getDefinition());
-                for (org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field : fields) {
-                    if (field.getData() == null) continue;
-                    List<FieldModel> valueFields = this.findValueFieldsByIds(field.getId(),  descriptionModel.getProperties());
-
-                    for (FieldModel valueField : valueFields) {
-                        String value = this.extractSchematicSingleValue(field, valueField);
-                        if (value != null) {
-                            citationFields.add(Map.of("dsDescriptionValue", new CitationField("dsDescriptionValue", FIELD_TYPE_CLASS_PRIMITIVE, false, value)));
-                        }
+    private List<DescriptionCitationFields> collectDescriptionFields(PlanModel planModel) {
+        List<DescriptionCitationFields> descriptionCitationFields = new ArrayList<>();
+        if (planModel.getDescriptions() == null) return descriptionCitationFields;
+
+        List<DescriptionModel> descriptionModels = planModel.getDescriptions();
+        Map<Object, DescriptionTemplateIndex> templateIndexes = new HashMap<>();
+        List<DescriptionTemplateIndex> descriptionTemplateIndexes = new ArrayList<>(descriptionModels.size());
+        for (DescriptionModel descriptionModel: descriptionModels) {
+            descriptionTemplateIndexes.add(this.getTemplateIndex(descriptionModel, templateIndexes));
+        }
+
+        DataverseServiceProperties.Build build = this.dataverseServiceProperties.getBuild();
+        if (build.isParallel() && descriptionModels.size() >= Math.max(2, build.getParallelThreshold())) {
+            return IntStream.range(0, descriptionModels.size()).parallel()
+                    .mapToObj(i -> this.collectDescriptionFields(descriptionModels.get(i), descriptionTemplateIndexes.get(i)))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        for (int i = 0; i < descriptionModels.size(); i++) {
+            descriptionCitationFields.add(this.collectDescriptionFields(descriptionModels.get(i), descriptionTemplateIndexes.get(i)));
+        }
+        return descriptionCitationFields;
+    }
+
+    private DescriptionCitationFields collectDescriptionFields(DescriptionModel descriptionModel, DescriptionTemplateIndex templateIndex) {
+        DescriptionCitationFields descriptionCitationFields = new DescriptionCitationFields(this.contributorTypes.size(), this.identifierTypes.size());
+        DescriptionValueIndex valueIndex = DescriptionValueIndex.of(descriptionModel.getProperties());
+
+        for (DescriptionTemplateIndex.SemanticField semanticField : templateIndex.getSemanticFields()) {
+            for (String semantic : semanticField.semantics()) {
+                List<DescriptionFieldCollector> collectors = this.descriptionFieldCollectors.get(semantic);
+                if (collectors == null) continue;
+                for (DescriptionFieldCollector collector : collectors) collector.collect(descriptionCitationFields, valueIndex, templateIndex, semanticField.field());
+            }
+        }
+
+        for (FieldSetCitation fieldSetCitation : FIELD_SET_CITATIONS) {
+            List<CitationFieldGroup> citationFields = descriptionCitationFields.getFieldSetValues(fieldSetCitation.typeName());
+            for (FieldSetModel fieldSet : descriptionCitationFields.getFieldSets(fieldSetCitation.typeName())) {
+                List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
+                for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
+                    CitationFieldGroup map = new CitationFieldGroup();
+                    for (FieldSetCitationValue value : fieldSetCitation.values()) {
+                        this.buildCitationFieldFromFieldSetSemantic(map, templateIndex, fieldSet, propertyDefinitionFieldSetItemModel, value.semantic(), value.descriptor());
                     }
+                    citationFields.add(map);
                 }
+            }
+        }
 
+        return descriptionCitationFields;
+    }
+
+    private Map<String, List<DescriptionFieldCollector>> buildDescriptionFieldCollectors() {
+        Map<String, List<DescriptionFieldCollector>> collectors = new HashMap<>();
+
+        collectors.computeIfAbsent(SEMANTIC_DATAVERSE_DESCRIPTION, x -> new ArrayList<>()).add((target, valueIndex, templateIndex, field) -> {
+            if (field.getData() == null) return;
+            for (FieldModel valueField : valueIndex.getValueFields(field.getId())) {
+                String value = this.extractSchematicSingleValue(templateIndex, field, valueField);
+                if (value != null) {
+                    target.getDescriptionValues().add(CitationFieldGroup.of(new CitationField(CITATION_FIELD_DS_DESCRIPTION_VALUE, value)));
+                }
+            }
+        });
+
+        for (String semantic : List.of(SEMANTIC_DATAVERSE_ALTERNATIVE_TITLE, SEMANTIC_DATAVERSE_SUBTITLE, SEMANTIC_DATAVERSE_NOTES, SEMANTIC_DATAVERSE_SUBJECT, SEMANTIC_DATAVERSE_ALTERNATIVE_URL, SEMANTIC_DATAVERSE_DATE_OF_DEPOSIT)) {
+            collectors.computeIfAbsent(semantic, x -> new ArrayList<>()).add((target, valueIndex, templateIndex, field) ->
+                    this.extractSchematicValues(templateIndex, field, valueIndex, target.getSchematicValues(semantic)));
+        }
+
+        for (int i = 0; i < this.contributorTypes.size(); i++) {
+            int contributorTypeIndex = i;
+            CompiledSemantics.ContributorType contributorType = this.contributorTypes.get(i);
+            collectors.computeIfAbsent(contributorType.code(), x -> new ArrayList<>()).add((target, valueIndex, templateIndex, field) -> {
+                if (field.getData() == null) return;
+                for (FieldModel valueField : valueIndex.getValueFields(field.getId())) {
+                    CitationFieldGroup map = new CitationFieldGroup();
+                    map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_TYPE, contributorType.value()));
+
+                    String value = this.extractSchematicSingleValue(templateIndex, field, valueField);
+                    if (value != null) {
+                        map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_NAME, value));
+                        target.getContributors(contributorTypeIndex).add(map);
+                    }
+                }
+            });
+        }
+
+        for (int i = 0; i < this.identifierTypes.size(); i++) {
+            int identifierTypeIndex = i;
+            CompiledSemantics.IdentifierType identifierType = this.identifierTypes.get(i);
+            collectors.computeIfAbsent(identifierType.code(), x -> new ArrayList<>()).add((target, valueIndex, templateIndex, field) -> {
+                if (field.getData() == null) return;
+                for (FieldModel valueField : valueIndex.getValueFields(field.getId())) {
+                    CitationFieldGroup map = new CitationFieldGroup();
+                    map.put(new CitationField(CITATION_FIELD_PUBLICATION_ID_TYPE, identifierType.value()));
+
+                    String value = this.extractSchematicSingleValue(templateIndex, field, valueField);
+                    if (value != null) map.put(new CitationField(CITATION_FIELD_PUBLICATION_ID_NUMBER, value));
+
+                    String relationType = this.semantics.findRelationType(field.getSemantics());
+                    if (relationType != null) map.put(new CitationField(CITATION_FIELD_PUBLICATION_RELATION_TYPE, relationType));
+                    if (value != null) target.getPublicationIdentifiers(identifierTypeIndex).add(map);
+                }
+            });
+        }
+
+        for (FieldSetCitation fieldSetCitation : FIELD_SET_CITATIONS) {
+            for (String semantic : fieldSetCitation.values().stream().map(FieldSetCitationValue::semantic).distinct().toList()) {
+                collectors.computeIfAbsent(semantic, x -> new ArrayList<>()).add((target, valueIndex, templateIndex, field) ->
+                        target.addFieldSet(fieldSetCitation.typeName(), templateIndex.getFieldSetByFieldId(field.getId())));
             }
         }
 
-        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = this.getFieldOfSemantic(planModel, SEMANTIC_DATAVERSE_DESCRIPTION);
+        return collectors;
+    }
+
+    @FunctionalInterface
+    private interface DescriptionFieldCollector {
+        void collect(DescriptionCitationFields target, DescriptionValueIndex valueIndex, DescriptionTemplateIndex templateIndex, org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field);
+    }
+
+    private record FieldSetCitation(String typeName, List<FieldSetCitationValue> values) {
+    }
+
+    private record FieldSetCitationValue(String semantic, CitationFieldDescriptor descriptor) {
+    }
+
+    //endregion
+
+    private List<CitationFieldGroup> buildDescriptionFields(PlanModel planModel, PlanLookupContext lookupContext, List<DescriptionCitationFields> descriptionCitationFields) {
+        List<CitationFieldGroup> citationFields = new ArrayList<>();
+        if (planModel == null) return citationFields;
+
+        for (DescriptionCitationFields descriptionCitationField : descriptionCitationFields) citationFields.addAll(descriptionCitationField.getDescriptionValues());
+
+        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = lookupContext.getBlueprintFieldsBySemantic(SEMANTIC_DATAVERSE_DESCRIPTION);
         for (org.opencdmp.commonmodels.models.planblueprint.FieldModel field: blueprintFieldsWithSemantic) {
-            PlanBlueprintValueModel planBlueprintValueModel = this.getPlanBlueprintValue(planModel, field.getId());
+            PlanBlueprintValueModel planBlueprintValueModel = lookupContext.getBlueprintValue(field.getId());
             String value = null;
             if (planBlueprintValueModel != null) {
                 if (planBlueprintValueModel.getValue() != null && !planBlueprintValueModel.getValue().isBlank()) value = planBlueprintValueModel.getValue();
@@ -183,115 +371,80 @@ public class DataverseBuilder {
                 else if (planBlueprintValueModel.getDateValue() != null) value = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault()).format(planBlueprintValueModel.getDateValue());
 
                 if (value != null) {
-                    citationFields.add(Map.of("dsDescriptionValue", new CitationField("dsDescriptionValue", FIELD_TYPE_CLASS_PRIMITIVE, false, value)));
+                    citationFields.add(CitationFieldGroup.of(new CitationField(CITATION_FIELD_DS_DESCRIPTION_VALUE, value)));
                 }
             }
         }
         if (planModel.getDescription() != null && !planModel.getDescription().isBlank())
-            citationFields.add(Map.of("dsDescriptionValue", new CitationField("dsDescriptionValue", FIELD_TYPE_CLASS_PRIMITIVE, false, planModel.getDescription())));
+            citationFields.add(CitationFieldGroup.of(new CitationField(CITATION_FIELD_DS_DESCRIPTION_VALUE, planModel.getDescription())));
 
         return citationFields;
     }
 
-    private List<Map<String, CitationField>> buildAuthorsFields(PlanModel planModel){
-        List<Map<String, CitationField>> fields = new ArrayList<>();
+    private List<CitationFieldGroup> buildAuthorsFields(PlanModel planModel, PlanLookupContext lookupContext, List<DescriptionCitationFields> descriptionCitationFields){
+        List<CitationFieldGroup> fields = new ArrayList<>();
         if (planModel == null || planModel.getUsers() == null) return fields;
 
         List<String> organizations = new ArrayList<>();
-        List<ReferenceModel> planOrganizations = this.getReferenceModelOfType(planModel, dataverseServiceProperties.getOrganizationReferenceCode());
+        List<ReferenceModel> planOrganizations = lookupContext.getReferencesByTypeCode(dataverseServiceProperties.getOrganizationReferenceCode());
         if (!planOrganizations.isEmpty()) organizations = planOrganizations.stream().map(ReferenceModel::getLabel).toList();
 
         for (PlanUserModel planUser: planModel.getUsers()) {
-            Map<String, CitationField> map = new HashMap<>();
-            map.put("authorName", new CitationField("authorName", FIELD_TYPE_CLASS_PRIMITIVE, false, planUser.getUser().getName()));
+            CitationFieldGroup map = new CitationFieldGroup();
+            map.put(new CitationField(CITATION_FIELD_AUTHOR_NAME, planUser.getUser().getName()));
 
             if (!organizations.isEmpty()) {
-                map.put("authorAffiliation", new CitationField("authorAffiliation", FIELD_TYPE_CLASS_PRIMITIVE, false, String.join(", ", organizations)));
+                map.put(new CitationField(CITATION_FIELD_AUTHOR_AFFILIATION, String.join(", ", organizations)));
             }
             fields.add(map);
         }
 
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-
-                for (FieldSetModel fieldSet : this.templateFieldSearcherService.searchFieldSetsBySemantics(descriptionModel.getDescriptionTemplate(), List.of(
-                        SEMANTIC_DATAVERSE_AUTHOR_NAME, SEMANTIC_DATAVERSE_AUTHOR_AFFILIATION))) {
-                    List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
-                    for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
-                        Map<String, CitationField> map = new HashMap<>();
-
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_AUTHOR_NAME, "authorName", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_AUTHOR_AFFILIATION, "authorAffiliation", FIELD_TYPE_CLASS_PRIMITIVE);
-                        fields.add(map);
-                    }
-                }
-
-            }
-        }
+        fields.addAll(this.buildFieldSetCitationFields(FIELD_SET_CITATION_AUTHOR, descriptionCitationFields));
 
         return fields;
     }
 
-    private List<Map<String, CitationField>> buildContributorsFields(PlanModel planModel){
-        List<Map<String, CitationField>> citationFields = new ArrayList<>();
+    private List<CitationFieldGroup> buildContributorsFields(PlanModel planModel, PlanLookupContext lookupContext, List<DescriptionCitationFields> descriptionCitationFields){
+        List<CitationFieldGroup> citationFields = new ArrayList<>();
         if (planModel == null) return citationFields;
 
         if (planModel.getUsers() != null) {
             for (PlanUserModel planUser: planModel.getUsers()) {
-                Map<String, CitationField> map = new HashMap<>();
-                map.put("contributorName", new CitationField("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false, planUser.getUser().getName()));
-                map.put("contributorType", new CitationField("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, planUser.getRole().equals(PlanUserRole.Owner) ? CONTRIBUTOR_TYPE_EDITOR : CONTRIBUTOR_TYPE_MEMBER));
+                CitationFieldGroup map = new CitationFieldGroup();
+                map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_NAME, planUser.getUser().getName()));
+                map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_TYPE, planUser.getRole().equals(PlanUserRole.Owner) ? CONTRIBUTOR_TYPE_EDITOR : CONTRIBUTOR_TYPE_MEMBER));
                 citationFields.add(map);
             }
         }
 
-        List<ReferenceModel> planResearchers = this.getReferenceModelOfType(planModel, dataverseServiceProperties.getResearcherReferenceCode());
+        List<ReferenceModel> planResearchers = lookupContext.getReferencesByTypeCode(dataverseServiceProperties.getResearcherReferenceCode());
         for (ReferenceModel researcher: planResearchers) {
-            Map<String, CitationField> map = new HashMap<>();
-            map.put("contributorName", new CitationField("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false, researcher.getLabel()));
-            map.put("contributorType", new CitationField("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, CONTRIBUTOR_TYPE_RESEARCHER));
+            CitationFieldGroup map = new CitationFieldGroup();
+            map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_NAME, researcher.getLabel()));
+            map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_TYPE, CONTRIBUTOR_TYPE_RESEARCHER));
             citationFields.add(map);
         }
 
-        List<ReferenceModel> planFunders = this.getReferenceModelOfType(planModel, dataverseServiceProperties.getFunderReferenceCode());
+        List<ReferenceModel> planFunders = lookupContext.getReferencesByTypeCode(dataverseServiceProperties.getFunderReferenceCode());
         for (ReferenceModel funder: planFunders) {
-            Map<String, CitationField> map = new HashMap<>();
-            map.put("contributorName", new CitationField("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false, funder.getLabel()));
-            map.put("contributorType", new CitationField("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, CONTRIBUTOR_TYPE_FUNDER));
+            CitationFieldGroup map = new CitationFieldGroup();
+            map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_NAME, funder.getLabel()));
+            map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_TYPE, CONTRIBUTOR_TYPE_FUNDER));
             citationFields.add(map);
         }
 
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-                for (SemanticsProperties.Contributor contributorType: this.semanticsProperties.getContributorType()){
-                    List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fields = this.findSchematicValues(contributorType.getCode(), descriptionModel.getDescriptionTemplate().getDefinition());
-                    for (org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field : fields) {
-                        if (field.getData() == null) continue;
-                        List<FieldModel> valueFields = this.findValueFieldsByIds(field.getId(),  descriptionModel.getProperties());
-
-                        for (FieldModel valueField : valueFields) {
-                            Map<String, CitationField> map = new HashMap<>();
-                            map.put("contributorType", new CitationField("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, contributorType.getValue()));
-
-                            String value = this.extractSchematicSingleValue(field, valueField);
-                            if (value != null) {
-                                map.put("contributorName", new CitationField("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false, value));
-                                citationFields.add(map);
-                            }
-                        }
-                    }
-                }
-            }
+        for (DescriptionCitationFields descriptionCitationField : descriptionCitationFields) {
+            for (int i = 0; i < this.contributorTypes.size(); i++) citationFields.addAll(descriptionCitationField.getContributors(i));
         }
-        for (SemanticsProperties.Contributor contributorType: this.semanticsProperties.getContributorType()){
-            List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = this.getFieldOfSemantic(planModel, contributorType.getCode());
+        for (CompiledSemantics.ContributorType contributorType: this.contributorTypes){
+            List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = lookupContext.getBlueprintFieldsBySemantic(contributorType.code());
             for (org.opencdmp.commonmodels.models.planblueprint.FieldModel field: blueprintFieldsWithSemantic) {
-                PlanBlueprintValueModel planBlueprintValueModel = this.getPlanBlueprintValue(planModel, field.getId());
-                Map<String, CitationField> map = new HashMap<>();
+                PlanBlueprintValueModel planBlueprintValueModel = lookupContext.getBlueprintValue(field.getId());
+                CitationFieldGroup map = new CitationFieldGroup();
                 if (planBlueprintValueModel != null) {
-                    map.put("contributorType", new CitationField("contributorType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, contributorType.getValue()));
+                    map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_TYPE, contributorType.value()));
                     if (planBlueprintValueModel.getValue() != null && !planBlueprintValueModel.getValue().isBlank()) {
-                        map.put("contributorName", new CitationField("contributorName", FIELD_TYPE_CLASS_PRIMITIVE, false, planBlueprintValueModel.getValue()));
+                        map.put(new CitationField(CITATION_FIELD_CONTRIBUTOR_NAME, planBlueprintValueModel.getValue()));
                         citationFields.add(map);
                     }
                 }
@@ -302,119 +455,62 @@ public class DataverseBuilder {
         return citationFields;
     }
 
-    private List<Map<String, CitationField>> buildFundingFields(PlanModel planModel){
-        List<Map<String, CitationField>> fields = new ArrayList<>();
+    private List<CitationFieldGroup> buildFundingFields(PlanModel planModel, PlanLookupContext lookupContext){
+        List<CitationFieldGroup> fields = new ArrayList<>();
         if (planModel == null) return fields;
 
-        List<ReferenceModel> planFunders = this.getReferenceModelOfType(planModel, dataverseServiceProperties.getFunderReferenceCode());
+        List<ReferenceModel> planFunders = lookupContext.getReferencesByTypeCode(dataverseServiceProperties.getFunderReferenceCode());
 
         for (ReferenceModel funder: planFunders) {
-            Map<String, CitationField> map = new HashMap<>();
-            map.put("fundingAgency", new CitationField("fundingAgency", FIELD_TYPE_CLASS_PRIMITIVE, false, funder.getLabel()));
-            map.put("fundingAgencyGrantNumber", new CitationField("fundingAgencyGrantNumber", FIELD_TYPE_CLASS_PRIMITIVE, false, funder.getReference()));
+            CitationFieldGroup map = new CitationFieldGroup();
+            map.put(new CitationField(CITATION_FIELD_FUNDING_AGENCY, funder.getLabel()));
+            map.put(new CitationField(CITATION_FIELD_FUNDING_AGENCY_GRANT_NUMBER, funder.getReference()));
             fields.add(map);
         }
 
         return fields;
     }
 
-    private List<Map<String, CitationField>> buildContactFields(PlanModel planModel){
-        List<Map<String, CitationField>> fields = new ArrayList<>();
+    private List<CitationFieldGroup> buildContactFields(PlanModel planModel, PlanLookupContext lookupContext, List<DescriptionCitationFields> descriptionCitationFields){
+        List<CitationFieldGroup> fields = new ArrayList<>();
         if (planModel == null || planModel.getProperties() == null || planModel.getProperties().getContacts() == null) return fields;
 
         for (PlanContactModel planContactModel: planModel.getProperties().getContacts()) {
-            Map<String, CitationField> map = new HashMap<>();
-            map.put("datasetContactName", new CitationField("datasetContactName", FIELD_TYPE_CLASS_PRIMITIVE, false, planContactModel.getFirstName() + " " + planContactModel.getLastName()));
-            map.put("datasetContactEmail", new CitationField("datasetContactEmail", FIELD_TYPE_CLASS_PRIMITIVE, false, planContactModel.getEmail()));
+            CitationFieldGroup map = new CitationFieldGroup();
+            map.put(new CitationField(CITATION_FIELD_DATASET_CONTACT_NAME, planContactModel.getFirstName() + " " + planContactModel.getLastName()));
+            map.put(new CitationField(CITATION_FIELD_DATASET_CONTACT_EMAIL, planContactModel.getEmail()));
             fields.add(map);
         }
 
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-
-                for (FieldSetModel fieldSet : this.templateFieldSearcherService.searchFieldSetsBySemantics(descriptionModel.getDescriptionTemplate(), List.of(
-                        SEMANTIC_DATAVERSE_CONTACT_NAME, SEMANTIC_DATAVERSE_CONTACT_EMAIL, SEMANTIC_DATAVERSE_CONTACT_AFFILIATION))) {
-                    List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
-                    for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
-                        Map<String, CitationField> map = new HashMap<>();
-
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_CONTACT_NAME, "datasetContactName", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_CONTACT_EMAIL, "datasetContactEmail", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_CONTACT_AFFILIATION, "datasetContactAffiliation", FIELD_TYPE_CLASS_PRIMITIVE);
-                        fields.add(map);
-                    }
-                }
-
-            }
-        }
+        fields.addAll(this.buildFieldSetCitationFields(FIELD_SET_CITATION_CONTACT, descriptionCitationFields));
         return fields;
     }
 
-    private List<Map<String, CitationField>> buildRelatedPublicationFields(PlanModel planModel) {
-        List<Map<String, CitationField>> citationFields = new ArrayList<>();
+    private List<CitationFieldGroup> buildRelatedPublicationFields(PlanModel planModel, PlanLookupContext lookupContext, List<DescriptionCitationFields> descriptionCitationFields) {
+        List<CitationFieldGroup> citationFields = new ArrayList<>();
         if (planModel == null) return citationFields;
 
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-                for (String identifierType: this.semanticsProperties.getIdentifierType()){
-                    List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fields = this.findSchematicValues(identifierType, descriptionModel.getDescriptionTemplate().getDefinition());
-                    for (org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field : fields) {
-                        if (field.getData() == null) continue;
-                        List<FieldModel> valueFields = this.findValueFieldsByIds(field.getId(),  descriptionModel.getProperties());
-
-                        for (FieldModel valueField : valueFields) {
-                            Map<String, CitationField> map = new HashMap<>();
-                            map.put("publicationIDType", new CitationField("publicationIDType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, identifierType.split("\\.")[3]));
-
-                            String value = this.extractSchematicSingleValue(field, valueField);
-                            if (value != null) map.put("publicationIDNumber", new CitationField("publicationIDNumber", FIELD_TYPE_CLASS_PRIMITIVE, false, value));
-
-                            if (field.getSemantics() != null) {
-                                field.getSemantics().stream().filter(this.semanticsProperties.getRelationType()::contains).findFirst()
-                                        .ifPresent(relationType -> map.put("publicationRelationType", new CitationField("publicationRelationType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, relationType.split("\\.")[3])));
-                            }
-                            if (value != null) citationFields.add(map);
-                        }
-                    }
-                }
-
-                for (FieldSetModel fieldSet : this.templateFieldSearcherService.searchFieldSetsBySemantics(descriptionModel.getDescriptionTemplate(), List.of(
-                        SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER_TYPE, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_RELATION_TYPE, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER,
-                        SEMANTIC_DATAVERSE_RELATED_PUBLICATION_URL, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_CITATION))) {
-                    List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
-                    for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
-                        Map<String, CitationField> map = new HashMap<>();
-
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER_TYPE, "publicationIDType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_RELATION_TYPE, "publicationRelationType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_CITATION, "publicationCitation", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_IDENTIFIER, "publicationIDNumber", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_RELATED_PUBLICATION_URL, "publicationURL", FIELD_TYPE_CLASS_PRIMITIVE);
-                        citationFields.add(map);
-                    }
-                }
-
-            }
+        for (DescriptionCitationFields descriptionCitationField : descriptionCitationFields) {
+            for (int i = 0; i < this.identifierTypes.size(); i++) citationFields.addAll(descriptionCitationField.getPublicationIdentifiers(i));
+            citationFields.addAll(descriptionCitationField.getFieldSetValues(FIELD_SET_CITATION_PUBLICATION.typeName()));
         }
-        for (String identifierType: this.semanticsProperties.getIdentifierType()){
-            List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = this.getFieldOfSemantic(planModel, identifierType);
+        for (CompiledSemantics.IdentifierType identifierType: this.identifierTypes){
+            List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = lookupContext.getBlueprintFieldsBySemantic(identifierType.code());
             for (org.opencdmp.commonmodels.models.planblueprint.FieldModel field: blueprintFieldsWithSemantic) {
-                PlanBlueprintValueModel planBlueprintValueModel = this.getPlanBlueprintValue(planModel, field.getId());
-                Map<String, CitationField> map = new HashMap<>();
+                PlanBlueprintValueModel planBlueprintValueModel = lookupContext.getBlueprintValue(field.getId());
+                CitationFieldGroup map = new CitationFieldGroup();
                 String value = null;
                 if (planBlueprintValueModel != null) {
-                    map.put("publicationIDType", new CitationField("publicationIDType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, identifierType.split("\\.")[3]));
+                    map.put(new CitationField(CITATION_FIELD_PUBLICATION_ID_TYPE, identifierType.value()));
                     if (planBlueprintValueModel.getValue() != null && !planBlueprintValueModel.getValue().isBlank()) value = planBlueprintValueModel.getValue();
                     else if (planBlueprintValueModel.getNumberValue() != null) value = planBlueprintValueModel.getNumberValue().toString();
                     else if (planBlueprintValueModel.getDateValue() != null) value = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault()).format(planBlueprintValueModel.getDateValue());
 
-                    if (value != null) map.put("publicationIDNumber", new CitationField("publicationIDNumber", FIELD_TYPE_CLASS_PRIMITIVE, false, value));
+                    if (value != null) map.put(new CitationField(CITATION_FIELD_PUBLICATION_ID_NUMBER, value));
                 }
 
-                if(field.getSemantics() != null) {
-                    field.getSemantics().stream().filter(this.semanticsProperties.getRelationType()::contains).findFirst()
-                            .ifPresent(relationType -> map.put("publicationRelationType", new CitationField("publicationRelationType", FIELD_TYPE_CLASS_CONTROLLED_VOCABULARY, false, relationType.split("\\.")[3])));
-                }
+                String relationType = this.semantics.findRelationType(field.getSemantics());
+                if (relationType != null) map.put(new CitationField(CITATION_FIELD_PUBLICATION_RELATION_TYPE, relationType));
 
                 if (value != null) citationFields.add(map);
             }
@@ -423,78 +519,31 @@ public class DataverseBuilder {
         return citationFields;
     }
 
-    private List<Map<String, CitationField>> buildKeywordsFields(PlanModel planModel) {
-        List<Map<String, CitationField>> citationFields = new ArrayList<>();
-        if (planModel == null) return citationFields;
-
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-
-                for (FieldSetModel fieldSet : this.templateFieldSearcherService.searchFieldSetsBySemantics(descriptionModel.getDescriptionTemplate(), List.of(
-                        SEMANTIC_DATAVERSE_KEYWORD_TERM, SEMANTIC_DATAVERSE_KEYWORD_TERM_URI,
-                        SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_NAME, SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_URL))) {
-                    List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
-                    for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
-                        Map<String, CitationField> map = new HashMap<>();
-
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_KEYWORD_TERM, "keywordValue", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_KEYWORD_TERM_URI, "keywordTermURI", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_NAME, "keywordVocabulary", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_KEYWORD_VOCABULARY_URL, "keywordVocabularyURI", FIELD_TYPE_CLASS_PRIMITIVE);
-                        citationFields.add(map);
-                    }
-                }
-
-            }
-        }
-
+    private List<CitationFieldGroup> buildFieldSetCitationFields(FieldSetCitation fieldSetCitation, List<DescriptionCitationFields> descriptionCitationFields) {
+        List<CitationFieldGroup> citationFields = new ArrayList<>();
+        for (DescriptionCitationFields descriptionCitationField : descriptionCitationFields) citationFields.addAll(descriptionCitationField.getFieldSetValues(fieldSetCitation.typeName()));
         return citationFields;
     }
 
-    private List<Map<String, CitationField>> buildOtherIdentifierFields(PlanModel planModel) {
-        List<Map<String, CitationField>> citationFields = new ArrayList<>();
-        if (planModel == null) return citationFields;
-
-        if (planModel.getDescriptions() != null) {
-            for (DescriptionModel descriptionModel: planModel.getDescriptions()){
-
-                for (FieldSetModel fieldSet : this.templateFieldSearcherService.searchFieldSetsBySemantics(descriptionModel.getDescriptionTemplate(), List.of(
-                        SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_AGENCY, SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_IDENTIFIER))) {
-                    List<org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel> propertyDefinitionFieldSetItemModels = this.findFieldSetValue(fieldSet, descriptionModel.getProperties());
-                    for (org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetItemModels) {
-                        Map<String, CitationField> map = new HashMap<>();
-
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_AGENCY, "otherIdentifierAgency", FIELD_TYPE_CLASS_PRIMITIVE);
-                        this.buildCitationFieldFromFieldSetSemantic(map, descriptionModel, fieldSet, propertyDefinitionFieldSetItemModel, SEMANTIC_DATAVERSE_OTHER_IDENTIFIER_IDENTIFIER, "otherIdentifierValue", FIELD_TYPE_CLASS_PRIMITIVE);
-                        citationFields.add(map);
-                    }
-                }
-
-            }
-        }
-
-        return citationFields;
-    }
-
-    private void buildCitationFieldFromFieldSetSemantic(Map<String, CitationField> map, DescriptionModel descriptionModel, FieldSetModel fieldSet,
+    private void buildCitationFieldFromFieldSetSemantic(CitationFieldGroup map, DescriptionTemplateIndex templateIndex, FieldSetModel fieldSet,
                                                         org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel,
-                                                        String semantic, String citationFieldName, String typeClass) {
-        FieldModel fieldValue = this.findValueFieldBySemantic(fieldSet, propertyDefinitionFieldSetItemModel, semantic);
+                                                        String semantic, CitationFieldDescriptor descriptor) {
+        FieldModel fieldValue = this.findValueFieldBySemantic(templateIndex, fieldSet, propertyDefinitionFieldSetItemModel, semantic);
         if (fieldValue != null) {
-            org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field = descriptionModel.getDescriptionTemplate().getDefinition().getAllField().stream().filter(x-> x.getId().equals(fieldValue.getId())).findFirst().orElse(null);
-            String value = this.extractSchematicSingleValue(field, fieldValue);
-            if (value != null) map.put(citationFieldName, new CitationField(citationFieldName, typeClass, false, value));
+            org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field = this.templateFieldSearcherService.findFieldById(templateIndex, fieldValue.getId());
+            String value = this.extractSchematicSingleValue(templateIndex, field, fieldValue);
+            if (value != null) map.put(new CitationField(descriptor, value));
         }
     }
 
-    private List<String> buildListStringValue(PlanModel planModel, String semantic){
+    private List<String> buildListStringValue(PlanModel planModel, PlanLookupContext lookupContext, String semantic, List<DescriptionCitationFields> descriptionCitationFields){
         List<String> fields = new ArrayList<>();
         if (planModel == null) return fields;
 
         //plan blueprint semantics
-        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = this.getFieldOfSemantic(planModel, semantic);
+        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = lookupContext.getBlueprintFieldsBySemantic(semantic);
         for (org.opencdmp.commonmodels.models.planblueprint.FieldModel field: blueprintFieldsWithSemantic) {
-            PlanBlueprintValueModel planBlueprintValueModel = this.getPlanBlueprintValue(planModel, field.getId());
+            PlanBlueprintValueModel planBlueprintValueModel = lookupContext.getBlueprintValue(field.getId());
             if (planBlueprintValueModel != null) {
                 if (planBlueprintValueModel.getValue() != null && !planBlueprintValueModel.getValue().isBlank() && !fields.contains(planBlueprintValueModel.getValue())) fields.add(planBlueprintValueModel.getValue());
                 if (planBlueprintValueModel.getDateValue() != null) fields.add(DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault()).format(planBlueprintValueModel.getDateValue()));
@@ -503,11 +552,9 @@ public class DataverseBuilder {
         }
 
         //description template
-        for (DescriptionModel descriptionModel: planModel.getDescriptions()) {
-            List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fieldsWithSemantics = this.findSchematicValues(semantic, descriptionModel.getDescriptionTemplate().getDefinition());
-            Set<String> values = extractSchematicValues(fieldsWithSemantics, descriptionModel.getProperties());
+        for (DescriptionCitationFields descriptionCitationField : descriptionCitationFields) {
             //description tags from semantic
-            for (String value: values){
+            for (String value: descriptionCitationField.getSchematicValues(semantic)){
                 if (!fields.contains(value)) fields.add(value);
             }
         }
@@ -517,11 +564,13 @@ public class DataverseBuilder {
 
     public String buildDataverseIdentifier(PlanModel planModel){
         if (planModel == null) return dataverseServiceProperties.getAlias();
+        Map<Object, DescriptionTemplateIndex> templateIndexes = new HashMap<>();
+        PlanLookupContext lookupContext = PlanLookupContext.of(planModel);
 
         //plan blueprint semantics
-        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = this.getFieldOfSemantic(planModel, SEMANTIC_DATAVERSE_IDENTIFIER);
+        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> blueprintFieldsWithSemantic = lookupContext.getBlueprintFieldsBySemantic(SEMANTIC_DATAVERSE_IDENTIFIER);
         for (org.opencdmp.commonmodels.models.planblueprint.FieldModel field: blueprintFieldsWithSemantic) {
-            PlanBlueprintValueModel planBlueprintValueModel = this.getPlanBlueprintValue(planModel, field.getId());
+            PlanBlueprintValueModel planBlueprintValueModel = lookupContext.getBlueprintValue(field.getId());
             if (planBlueprintValueModel != null) {
                 if (planBlueprintValueModel.getValue() != null && !planBlueprintValueModel.getValue().isBlank()) return planBlueprintValueModel.getValue();
             }
@@ -529,8 +578,14 @@ public class DataverseBuilder {
 
         //description template
         for (DescriptionModel descriptionModel: planModel.getDescriptions()) {
-            List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fieldsWithSemantics = this.findSchematicValues(SEMANTIC_DATAVERSE_IDENTIFIER, descriptionModel.getDescriptionTemplate().getDefinition());
-            Set<String> values = extractSchematicValues(fieldsWithSemantics, descriptionModel.getProperties());
+            DescriptionTemplateIndex templateIndex = this.getTemplateIndex(descriptionModel, templateIndexes);
+            List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fields = this.findSchematicValues(SEMANTIC_DATAVERSE_IDENTIFIER, templateIndex);
+            if (fields.isEmpty()) continue;
+            DescriptionValueIndex valueIndex = DescriptionValueIndex.of(descriptionModel.getProperties());
+            Set<String> values = new HashSet<>();
+            for (org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field : fields) {
+                this.extractSchematicValues(templateIndex, field, valueIndex, values);
+            }
             String value = values.stream().findFirst().orElse(null);
             if (value != null) return value;
         }
@@ -539,109 +594,73 @@ public class DataverseBuilder {
     }
 
 
-    //region  plan blueprint
-    private List<ReferenceModel> getReferenceModelOfType(PlanModel planModel, String code){
-        List<ReferenceModel> response = new ArrayList<>();
-        if (planModel.getReferences() == null) return response;
-        for (PlanReferenceModel planReferenceModel : planModel.getReferences()){
-            if (planReferenceModel.getReference() != null && planReferenceModel.getReference().getType() != null && planReferenceModel.getReference().getType().getCode() != null  && planReferenceModel.getReference().getType().getCode().equals(code)){
-                response.add(planReferenceModel.getReference());
-            }
-        }
-        return response;
-    }
-
-
-    private List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> getFieldOfSemantic(PlanModel plan, String semanticKey){
-        List<org.opencdmp.commonmodels.models.planblueprint.FieldModel> fields = new ArrayList<>();
+    //region description template
 
-        if (plan == null || plan.getPlanBlueprint() == null || plan.getPlanBlueprint().getDefinition() == null || plan.getPlanBlueprint().getDefinition().getSections() == null) return fields;
-        for (SectionModel sectionModel : plan.getPlanBlueprint().getDefinition().getSections()){
-            if (sectionModel.getFields() != null){
-                org.opencdmp.commonmodels.models.planblueprint.FieldModel fieldModel = sectionModel.getFields().stream().filter(x-> x.getSemantics() != null && x.getSemantics().contains(semanticKey)).findFirst().orElse(null);
-                if (fieldModel != null) fields.add(fieldModel);
-            }
+    private DescriptionTemplateIndex getTemplateIndex(DescriptionModel descriptionModel, Map<Object, DescriptionTemplateIndex> templateIndexes){
+        DescriptionTemplateModel template = descriptionModel.getDescriptionTemplate();
+        Object key = template != null && template.getId() != null ? new TemplateKey(template.getId(), template.getVersion()) : template;
+        DescriptionTemplateIndex templateIndex = templateIndexes.get(key);
+        if (templateIndex == null) {
+            templateIndex = this.templateFieldSearcherService.buildIndex(template);
+            templateIndexes.put(key, templateIndex);
         }
-        return fields;
+        return templateIndex;
     }
 
-    private PlanBlueprintValueModel getPlanBlueprintValue(PlanModel plan, UUID id){
-        if (plan == null || plan.getProperties() == null || plan.getProperties().getPlanBlueprintValues() == null) return null;
-        return plan.getProperties().getPlanBlueprintValues().stream().filter(x-> x.getFieldId().equals(id)).findFirst().orElse(null);
+    private record TemplateKey(UUID id, Short version) {
     }
-    //endregion
-
-    //region description template
 
-    private List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> findSchematicValues(String semantic, DefinitionModel definitionModel){
-        return definitionModel.getAllField().stream().filter(x-> x.getSemantics() != null && x.getSemantics().contains(semantic)).toList();
+    private List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> findSchematicValues(String semantic, DescriptionTemplateIndex templateIndex){
+        return this.templateFieldSearcherService.searchFieldsBySemantics(templateIndex, semantic);
     }
 
-    private Set<String> extractSchematicValues(List<org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel> fields, PropertyDefinitionModel propertyDefinition) {
-        Set<String> values = new HashSet<>();
-        for (org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field : fields) {
-            if (field.getData() == null) continue;
-            List<FieldModel> valueFields = this.findValueFieldsByIds(field.getId(), propertyDefinition);
-            for (FieldModel valueField : valueFields) {
-                switch (field.getData().getFieldType()) {
-                    case FREE_TEXT, TEXT_AREA, RICH_TEXT_AREA -> {
-                        if (valueField.getTextValue() != null && !valueField.getTextValue().isBlank()) values.add(valueField.getTextValue());
-                    }
-                    case BOOLEAN_DECISION, CHECK_BOX -> {
-                        if (valueField.getBooleanValue() != null) values.add(valueField.getBooleanValue().toString());
-                    }
-                    case DATE_PICKER -> {
-                        if (valueField.getDateValue() != null) values.add(DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault()).format(valueField.getDateValue()));
-                    }
-                    case DATASET_IDENTIFIER, VALIDATION -> {
-                        if (valueField.getExternalIdentifier() != null && valueField.getExternalIdentifier().getIdentifier() != null && !valueField.getExternalIdentifier().getIdentifier().isBlank()) {
-                            values.add(valueField.getExternalIdentifier().getIdentifier());
-                        }
-                    }
-                    case TAGS -> {
-                        if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
-                            values.addAll(valueField.getTextListValue());
-                        }
+    private void extractSchematicValues(DescriptionTemplateIndex templateIndex, org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field, DescriptionValueIndex valueIndex, Set<String> values) {
+        if (field.getData() == null) return;
+        List<FieldModel> valueFields = valueIndex.getValueFields(field.getId());
+        for (FieldModel valueField : valueFields) {
+            switch (field.getData().getFieldType()) {
+                case FREE_TEXT, TEXT_AREA, RICH_TEXT_AREA -> {
+                    if (valueField.getTextValue() != null && !valueField.getTextValue().isBlank()) values.add(valueField.getTextValue());
+                }
+                case BOOLEAN_DECISION, CHECK_BOX -> {
+                    if (valueField.getBooleanValue() != null) values.add(valueField.getBooleanValue().toString());
+                }
+                case DATE_PICKER -> {
+                    if (valueField.getDateValue() != null) values.add(DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault()).format(valueField.getDateValue()));
+                }
+                case DATASET_IDENTIFIER, VALIDATION -> {
+                    if (valueField.getExternalIdentifier() != null && valueField.getExternalIdentifier().getIdentifier() != null && !valueField.getExternalIdentifier().getIdentifier().isBlank()) {
+                        values.add(valueField.getExternalIdentifier().getIdentifier());
                     }
-                    case SELECT -> {
-                        if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
-                            SelectDataModel selectDataModel = (SelectDataModel)field.getData();
-                            if (selectDataModel != null && selectDataModel.getOptions() != null && !selectDataModel.getOptions().isEmpty()){
-                                for (SelectDataModel.OptionModel option : selectDataModel.getOptions()){
-                                    if (valueField.getTextListValue().contains(option.getValue()) || valueField.getTextListValue().contains(option.getLabel())) values.add(option.getLabel());
-                                }
-                            }
-                        }
+                }
+                case TAGS -> {
+                    if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
+                        values.addAll(valueField.getTextListValue());
                     }
-                    case RADIO_BOX -> {
-                        if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
-                            RadioBoxDataModel radioBoxModel = (RadioBoxDataModel)field.getData();
-                            if (radioBoxModel != null && radioBoxModel.getOptions() != null && !radioBoxModel.getOptions().isEmpty()){
-                                for (RadioBoxDataModel.RadioBoxOptionModel option : radioBoxModel.getOptions()){
-                                    if (valueField.getTextListValue().contains(option.getValue()) || valueField.getTextListValue().contains(option.getLabel())) values.add(option.getLabel());
-                                }
-                            }
-                        }
+                }
+                case SELECT, RADIO_BOX -> {
+                    if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
+                        FieldOptionsIndex options = this.templateFieldSearcherService.findFieldOptions(templateIndex, field);
+                        if (options != null) values.addAll(options.getMatchingLabels(valueField.getTextListValue()));
                     }
-                    case REFERENCE_TYPES -> {
-                        if (valueField.getReferences() != null && !valueField.getReferences().isEmpty()) {
-                            for (ReferenceModel referenceModel : valueField.getReferences()) {
-                                if (referenceModel == null
-                                        || referenceModel.getType() == null || referenceModel.getType().getCode() == null || referenceModel.getType().getCode().isBlank()
-                                        || referenceModel.getDefinition() == null || referenceModel.getDefinition().getFields() == null || referenceModel.getDefinition().getFields().isEmpty()) continue;
-                                if (referenceModel.getReference() != null && !referenceModel.getReference().isBlank()) {
-                                    values.add(referenceModel.getReference());
-                                }
+                }
+                case REFERENCE_TYPES -> {
+                    if (valueField.getReferences() != null && !valueField.getReferences().isEmpty()) {
+                        for (ReferenceModel referenceModel : valueField.getReferences()) {
+                            if (referenceModel == null
+                                    || referenceModel.getType() == null || referenceModel.getType().getCode() == null || referenceModel.getType().getCode().isBlank()
+                                    || referenceModel.getDefinition() == null || referenceModel.getDefinition().getFields() == null || referenceModel.getDefinition().getFields().isEmpty()) continue;
+                            if (referenceModel.getReference() != null && !referenceModel.getReference().isBlank()) {
+                                values.add(referenceModel.getReference());
                             }
                         }
                     }
                 }
             }
         }
-        return values;
     }
 
-    private String extractSchematicSingleValue(org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field, org.opencdmp.commonmodels.models.description.FieldModel valueField) {
+    private String extractSchematicSingleValue(DescriptionTemplateIndex templateIndex, org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field, org.opencdmp.commonmodels.models.description.FieldModel valueField) {
             if (field == null || field.getData() == null) return null;
 
         switch (field.getData().getFieldType()) {
@@ -664,23 +683,12 @@ public class DataverseBuilder {
                     return String.join(", ", valueField.getTextListValue());
                 }
             }
-            case SELECT -> {
-                if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
-                    SelectDataModel selectDataModel = (SelectDataModel)field.getData();
-                    if (selectDataModel != null && selectDataModel.getOptions() != null && !selectDataModel.getOptions().isEmpty()){
-                        for (SelectDataModel.OptionModel option : selectDataModel.getOptions()){
-                            if (valueField.getTextListValue().contains(option.getValue()) || valueField.getTextListValue().contains(option.getLabel()))  return (option.getValue());
-                        }
-                    }
-                }
-            }
-            case RADIO_BOX -> {
+            case SELECT, RADIO_BOX -> {
                 if (valueField.getTextListValue() != null && !valueField.getTextListValue().isEmpty()) {
-                    RadioBoxDataModel radioBoxModel = (RadioBoxDataModel)field.getData();
-                    if (radioBoxModel != null && radioBoxModel.getOptions() != null && !radioBoxModel.getOptions().isEmpty()){
-                        for (RadioBoxDataModel.RadioBoxOptionModel option : radioBoxModel.getOptions()){
-                            if (valueField.getTextListValue().contains(option.getValue()) || valueField.getTextListValue().contains(option.getLabel()))  return (option.getValue());
-                        }
+                    FieldOptionsIndex options = this.templateFieldSearcherService.findFieldOptions(templateIndex, field);
+                    if (options != null) {
+                        String value = options.getFirstMatchingValue(valueField.getTextListValue());
+                        if (value != null) return value;
                     }
                 }
             }
@@ -701,24 +709,8 @@ public class DataverseBuilder {
         return null;
     }
 
-    private List<FieldModel> findValueFieldsByIds(String fieldId, PropertyDefinitionModel definitionModel){
-        List<FieldModel> models = new ArrayList<>();
-        if (definitionModel == null || definitionModel.getFieldSets() == null || definitionModel.getFieldSets().isEmpty()) return models;
-        for (PropertyDefinitionFieldSetModel propertyDefinitionFieldSetModel : definitionModel.getFieldSets().values()){
-            if (propertyDefinitionFieldSetModel == null ||propertyDefinitionFieldSetModel.getItems() == null || propertyDefinitionFieldSetModel.getItems().isEmpty()) continue;
-            for (PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetModel.getItems()){
-                if (propertyDefinitionFieldSetItemModel == null ||propertyDefinitionFieldSetItemModel.getFields() == null || propertyDefinitionFieldSetItemModel.getFields().isEmpty()) continue;
-                for (Map.Entry<String, FieldModel> entry : propertyDefinitionFieldSetItemModel.getFields().entrySet()){
-                    if (entry == null || entry.getValue() == null) continue;
-                    if (entry.getKey().equalsIgnoreCase(fieldId)) models.add(entry.getValue());
-                }
-            }
-        }
-        return models;
-    }
-
-    private org.opencdmp.commonmodels.models.description.FieldModel findValueFieldBySemantic(FieldSetModel fieldSet, org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel, String semantic){
-        org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field = this.templateFieldSearcherService.findFieldBySemantic(fieldSet, semantic);
+    private org.opencdmp.commonmodels.models.description.FieldModel findValueFieldBySemantic(DescriptionTemplateIndex templateIndex, FieldSetModel fieldSet, org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel, String semantic){
+        org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel field = this.templateFieldSearcherService.findFieldBySemantic(templateIndex, fieldSet, semantic);
         return field != null ? propertyDefinitionFieldSetItemModel.getFields().getOrDefault(field.getId(), null) : null;
     }
 
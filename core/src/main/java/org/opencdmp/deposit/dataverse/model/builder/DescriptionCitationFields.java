@@ -0,0 +1,57 @@
+package org.opencdmp.deposit.dataverse.model.builder;
+
+import org.opencdmp.commonmodels.models.descriptiotemplate.FieldSetModel;
+import org.opencdmp.deposit.dataverse.model.CitationFieldGroup;
+
+import java.util.*;
+
+public class DescriptionCitationFields {
+
+    private final List<CitationFieldGroup> descriptionValues = new ArrayList<>();
+
+    private final Map<String, Set<String>> schematicValues = new HashMap<>();
+
+    private final List<List<CitationFieldGroup>> contributors;
+
+    private final List<List<CitationFieldGroup>> publicationIdentifiers;
+
+    private final Map<String, LinkedHashMap<String, FieldSetModel>> fieldSets = new HashMap<>();
+
+    private final Map<String, List<CitationFieldGroup>> fieldSetValues = new HashMap<>();
+
+    public DescriptionCitationFields(int contributorTypes, int identifierTypes) {
+        this.contributors = new ArrayList<>(contributorTypes);
+        for (int i = 0; i < contributorTypes; i++) this.contributors.add(new ArrayList<>());
+        this.publicationIdentifiers = new ArrayList<>(identifierTypes);
+        for (int i = 0; i < identifierTypes; i++) this.publicationIdentifiers.add(new ArrayList<>());
+    }
+
+    public List<CitationFieldGroup> getDescriptionValues() {
+        return descriptionValues;
+    }
+
+    public Set<String> getSchematicValues(String semantic) {
+        return this.schematicValues.computeIfAbsent(semantic, x -> new HashSet<>());
+    }
+
+    public List<CitationFieldGroup> getContributors(int contributorType) {
+        return this.contributors.get(contributorType);
+    }
+
+    public List<CitationFieldGroup> getPublicationIdentifiers(int identifierType) {
+        return this.publicationIdentifiers.get(identifierType);
+    }
+
+    public void addFieldSet(String typeName, FieldSetModel fieldSetModel) {
+        this.fieldSets.computeIfAbsent(typeName, x -> new LinkedHashMap<>()).putIfAbsent(fieldSetModel.getId(), fieldSetModel);
+    }
+
+    public Collection<FieldSetModel> getFieldSets(String typeName) {
+        LinkedHashMap<String, FieldSetModel> fieldSetModels = this.fieldSets.get(typeName);
+        return fieldSetModels != null ? fieldSetModels.values() : List.of();
+    }
+
+    public List<CitationFieldGroup> getFieldSetValues(String typeName) {
+        return this.fieldSetValues.computeIfAbsent(typeName, x -> new ArrayList<>());
+    }
+}
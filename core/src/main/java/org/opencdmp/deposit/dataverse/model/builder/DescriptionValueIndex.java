@@ -0,0 +1,85 @@
+package org.opencdmp.deposit.dataverse.model.builder;
+
+import org.opencdmp.commonmodels.models.description.FieldModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetItemModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionFieldSetModel;
+import org.opencdmp.commonmodels.models.description.PropertyDefinitionModel;
+
+import java.util.*;
+
+public class DescriptionValueIndex {
+
+    private static final DescriptionValueIndex EMPTY = new DescriptionValueIndex(Map.of());
+
+    private final Map<String, ValueFields> valueFields;
+
+    private DescriptionValueIndex(Map<String, ValueFields> valueFields) {
+        this.valueFields = valueFields;
+    }
+
+    public static DescriptionValueIndex of(PropertyDefinitionModel definitionModel) {
+        if (definitionModel == null || definitionModel.getFieldSets() == null || definitionModel.getFieldSets().isEmpty()) return EMPTY;
+
+        Map<String, ValueFields> valueFields = new HashMap<>();
+        for (PropertyDefinitionFieldSetModel propertyDefinitionFieldSetModel : definitionModel.getFieldSets().values()) {
+            if (propertyDefinitionFieldSetModel == null || propertyDefinitionFieldSetModel.getItems() == null || propertyDefinitionFieldSetModel.getItems().isEmpty()) continue;
+            for (PropertyDefinitionFieldSetItemModel propertyDefinitionFieldSetItemModel : propertyDefinitionFieldSetModel.getItems()) {
+                if (propertyDefinitionFieldSetItemModel == null || propertyDefinitionFieldSetItemModel.getFields() == null || propertyDefinitionFieldSetItemModel.getFields().isEmpty()) continue;
+                for (Map.Entry<String, FieldModel> entry : propertyDefinitionFieldSetItemModel.getFields().entrySet()) {
+                    if (entry == null || entry.getKey() == null || entry.getValue() == null) continue;
+                    valueFields.computeIfAbsent(foldCase(entry.getKey()), x -> new ValueFields(entry.getKey())).add(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return new DescriptionValueIndex(valueFields);
+    }
+
+    public List<FieldModel> getValueFields(String fieldId) {
+        if (fieldId == null) return List.of();
+        ValueFields fields = this.valueFields.get(foldCase(fieldId));
+        return fields != null ? fields.get(fieldId) : List.of();
+    }
+
+    private static String foldCase(String value) {
+        StringBuilder builder = null;
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            int folded = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (folded != codePoint && builder == null) builder = new StringBuilder(value.length()).append(value, 0, i);
+            if (builder != null) builder.appendCodePoint(folded);
+            i += Character.charCount(codePoint);
+        }
+        return builder != null ? builder.toString() : value;
+    }
+
+    private static class ValueFields {
+
+        private final String id;
+
+        private final List<FieldModel> fields = new ArrayList<>(2);
+
+        private List<String> ids;
+
+        private ValueFields(String id) {
+            this.id = id;
+        }
+
+        private void add(String id, FieldModel fieldModel) {
+            if (this.ids == null && !this.id.equals(id)) {
+                this.ids = new ArrayList<>(Collections.nCopies(this.fields.size(), this.id));
+            }
+            if (this.ids != null) this.ids.add(id);
+            this.fields.add(fieldModel);
+        }
+
+        private List<FieldModel> get(String fieldId) {
+            if (this.ids == null) return this.id.equalsIgnoreCase(fieldId) ? Collections.unmodifiableList(this.fields) : List.of();
+
+            List<FieldModel> models = new ArrayList<>();
+            for (int i = 0; i < this.fields.size(); i++) {
+                if (this.ids.get(i).equalsIgnoreCase(fieldId)) models.add(this.fields.get(i));
+            }
+            return models;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.opencdmp.deposit.dataverse.model.builder;
+
+import org.opencdmp.commonmodels.models.plan.PlanBlueprintValueModel;
+import org.opencdmp.commonmodels.models.plan.PlanModel;
+import org.opencdmp.commonmodels.models.planblueprint.FieldModel;
+import org.opencdmp.commonmodels.models.planblueprint.SectionModel;
+import org.opencdmp.commonmodels.models.planreference.PlanReferenceModel;
+import org.opencdmp.commonmodels.models.reference.ReferenceModel;
+
+import java.util.*;
+
+public class PlanLookupContext {
+
+    private final Map<String, List<FieldModel>> blueprintFieldsBySemantic;
+
+    private final Map<UUID, PlanBlueprintValueModel> blueprintValuesByFieldId;
+
+    private final Map<String, List<ReferenceModel>> referencesByTypeCode;
+
+    private PlanLookupContext(Map<String, List<FieldModel>> blueprintFieldsBySemantic, Map<UUID, PlanBlueprintValueModel> blueprintValuesByFieldId, Map<String, List<ReferenceModel>> referencesByTypeCode) {
+        this.blueprintFieldsBySemantic = blueprintFieldsBySemantic;
+        this.blueprintValuesByFieldId = blueprintValuesByFieldId;
+        this.referencesByTypeCode = referencesByTypeCode;
+    }
+
+    public static PlanLookupContext of(PlanModel planModel) {
+        return new PlanLookupContext(indexBlueprintFields(planModel), indexBlueprintValues(planModel), indexReferences(planModel));
+    }
+
+    public List<FieldModel> getBlueprintFieldsBySemantic(String semantic) {
+        return this.blueprintFieldsBySemantic.getOrDefault(semantic, List.of());
+    }
+
+    public PlanBlueprintValueModel getBlueprintValue(UUID fieldId) {
+        return this.blueprintValuesByFieldId.get(fieldId);
+    }
+
+    public List<ReferenceModel> getReferencesByTypeCode(String typeCode) {
+        return this.referencesByTypeCode.getOrDefault(typeCode, List.of());
+    }
+
+    private static Map<String, List<FieldModel>> indexBlueprintFields(PlanModel planModel) {
+        Map<String, List<FieldModel>> fields = new HashMap<>();
+        if (planModel == null || planModel.getPlanBlueprint() == null || planModel.getPlanBlueprint().getDefinition() == null || planModel.getPlanBlueprint().getDefinition().getSections() == null) return fields;
+
+        for (SectionModel sectionModel : planModel.getPlanBlueprint().getDefinition().getSections()) {
+            if (sectionModel == null || sectionModel.getFields() == null) continue;
+            Set<String> sectionSemantics = new HashSet<>();
+            for (FieldModel fieldModel : sectionModel.getFields()) {
+                if (fieldModel == null || fieldModel.getSemantics() == null) continue;
+                for (String semantic : fieldModel.getSemantics()) {
+                    if (semantic != null && sectionSemantics.add(semantic)) fields.computeIfAbsent(semantic, x -> new ArrayList<>()).add(fieldModel);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static Map<UUID, PlanBlueprintValueModel> indexBlueprintValues(PlanModel planModel) {
+        Map<UUID, PlanBlueprintValueModel> values = new HashMap<>();
+        if (planModel == null || planModel.getProperties() == null || planModel.getProperties().getPlanBlueprintValues() == null) return values;
+
+        for (PlanBlueprintValueModel planBlueprintValueModel : planModel.getProperties().getPlanBlueprintValues()) {
+            if (planBlueprintValueModel != null && planBlueprintValueModel.getFieldId() != null) values.putIfAbsent(planBlueprintValueModel.getFieldId(), planBlueprintValueModel);
+        }
+        return values;
+    }
+
+    private static Map<String, List<ReferenceModel>> indexReferences(PlanModel planModel) {
+        Map<String, List<ReferenceModel>> references = new HashMap<>();
+        if (planModel == null || planModel.getReferences() == null) return references;
+
+        for (PlanReferenceModel planReferenceModel : planModel.getReferences()) {
+            if (planReferenceModel == null || planReferenceModel.getReference() == null || planReferenceModel.getReference().getType() == null || planReferenceModel.getReference().getType().getCode() == null) continue;
+            references.computeIfAbsent(planReferenceModel.getReference().getType().getCode(), x -> new ArrayList<>()).add(planReferenceModel.getReference());
+        }
+        return references;
+    }
+}
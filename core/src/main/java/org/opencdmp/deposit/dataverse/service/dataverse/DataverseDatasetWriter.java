@@ -0,0 +1,122 @@
+package org.opencdmp.deposit.dataverse.service.dataverse;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opencdmp.deposit.dataverse.model.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+@Component
+public class DataverseDatasetWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public DataverseDatasetWriter() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    public BodyInserter<DataverseDataset, ReactiveHttpOutputMessage> inserter(DataverseDataset dataset) {
+        return (message, context) -> message.writeWith(Mono.fromCallable(() -> this.write(message, generator -> this.write(generator, dataset))));
+    }
+
+    public BodyInserter<DatasetVersion, ReactiveHttpOutputMessage> inserter(DatasetVersion datasetVersion) {
+        return (message, context) -> message.writeWith(Mono.fromCallable(() -> this.write(message, generator -> this.write(generator, datasetVersion))));
+    }
+
+    public void write(JsonGenerator generator, DataverseDataset dataset) throws IOException {
+        generator.writeStartObject();
+        if (dataset.getDatasetVersion() != null) {
+            generator.writeFieldName("datasetVersion");
+            this.write(generator, dataset.getDatasetVersion());
+        }
+        generator.writeEndObject();
+    }
+
+    public void write(JsonGenerator generator, DatasetVersion datasetVersion) throws IOException {
+        generator.writeStartObject();
+        if (datasetVersion.getMetadataBlocks() != null) {
+            generator.writeFieldName("metadataBlocks");
+            this.write(generator, datasetVersion.getMetadataBlocks());
+        }
+        if (datasetVersion.getTermsOfUse() != null) generator.writeStringField("termsOfUse", datasetVersion.getTermsOfUse());
+        generator.writeEndObject();
+    }
+
+    private void write(JsonGenerator generator, DataSetMetadataBlock metadataBlock) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("citation");
+        Citation citation = metadataBlock.getCitation();
+        if (citation == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            generator.writeStringField("displayName", citation.getDisplayName());
+            generator.writeFieldName("fields");
+            this.writeValue(generator, citation.getFields());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private void write(JsonGenerator generator, CitationField citationField) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("typeName", citationField.getTypeName());
+        generator.writeStringField("typeClass", citationField.getTypeClass());
+        generator.writeBooleanField("multiple", citationField.isMultiple());
+        generator.writeFieldName("value");
+        this.writeValue(generator, citationField.getValue());
+        generator.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof CitationField citationField) {
+            this.write(generator, citationField);
+        } else if (value instanceof CitationFieldGroup group) {
+            generator.writeStartObject();
+            for (CitationField citationField : group.getFields()) {
+                generator.writeFieldName(citationField.getTypeName());
+                this.write(generator, citationField);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection<?> values) {
+            generator.writeStartArray();
+            for (Object item : values) this.writeValue(generator, item);
+            generator.writeEndArray();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private DataBuffer write(ReactiveHttpOutputMessage message, JsonWriter writer) throws IOException {
+        DataBuffer buffer = message.bufferFactory().allocateBuffer(INITIAL_BUFFER_SIZE);
+        try {
+            try (OutputStream outputStream = buffer.asOutputStream(); JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                writer.write(generator);
+            }
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
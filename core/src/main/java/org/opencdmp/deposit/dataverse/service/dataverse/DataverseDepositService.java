@@ -6,9 +6,13 @@ import org.opencdmp.depositbase.repository.PlanDepositModel;
 public interface DataverseDepositService {
 	String deposit(PlanDepositModel planDepositModel) throws Exception;
 
+	String deposit(PlanDepositModel planDepositModel, DepositProgressListener progressListener) throws Exception;
+
 	DepositConfiguration getConfiguration();
 
 	String authenticate(String code);
 
 	String getLogo();
+
+	String getLogoETag();
 }
@@ -1,5 +1,6 @@
 package org.opencdmp.deposit.dataverse.service.dataverse;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gr.cite.tools.exception.MyApplicationException;
@@ -10,27 +11,43 @@ import org.opencdmp.commonmodels.models.plan.PlanModel;
 import org.opencdmp.commonmodels.models.plugin.PluginUserFieldModel;
 import org.opencdmp.deposit.dataverse.model.DataverseDataset;
 import org.opencdmp.deposit.dataverse.model.builder.DataverseBuilder;
+import org.opencdmp.deposit.dataverse.service.idempotency.DepositIdempotencyService;
+import org.opencdmp.deposit.dataverse.service.journal.DepositJournal;
+import org.opencdmp.deposit.dataverse.service.journal.DepositJournalEntry;
+import org.opencdmp.deposit.dataverse.service.metrics.DepositMetrics;
+import org.opencdmp.deposit.dataverse.service.resilience.DataverseResilience;
 import org.opencdmp.deposit.dataverse.service.storage.FileStorageService;
+import org.opencdmp.deposit.dataverse.service.tracing.DepositTracing;
 import org.opencdmp.depositbase.repository.DepositConfiguration;
 import org.opencdmp.depositbase.repository.PlanDepositModel;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.*;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class DataverseDepositServiceImpl implements DataverseDepositService {
@@ -38,25 +55,51 @@ public class DataverseDepositServiceImpl implements DataverseDepositService {
 
     public static final String CONFIGURATION_FIELD_ACCESS_TOKEN = "dataverse-access-token";
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String RELEASED_VERSION_STATE = "RELEASED";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+    private static final String IDEMPOTENCY_DIGEST_ALGORITHM = "SHA-256";
 
     private final DataverseServiceProperties dataverseServiceProperties;
     private final DataverseBuilder dataverseBuilder;
     private final FileStorageService storageService;
     private final ResourceLoader resourceLoader;
+    private final WebClient webClient;
+    private final DataverseDatasetWriter datasetWriter;
+    private final DepositMetrics depositMetrics;
+    private final DepositTracing depositTracing;
+    private final DataverseResilience dataverseResilience;
+    private final DepositIdempotencyService depositIdempotencyService;
+    private final DepositJournal depositJournal;
+
+    private final Cache logoCache;
+    private final LogoCacheProperties logoCacheProperties;
 
-    private byte[] logo;;
-    
     @Autowired
-    public DataverseDepositServiceImpl(DataverseServiceProperties dataverseServiceProperties, DataverseBuilder mapper, FileStorageService storageService, ResourceLoader resourceLoader){
+    public DataverseDepositServiceImpl(DataverseServiceProperties dataverseServiceProperties, DataverseBuilder mapper, FileStorageService storageService, ResourceLoader resourceLoader, WebClient dataverseWebClient, DataverseDatasetWriter datasetWriter, DepositMetrics depositMetrics, DepositTracing depositTracing, DataverseResilience dataverseResilience, DepositIdempotencyService depositIdempotencyService, DepositJournal depositJournal, ObjectProvider<CacheManager> cacheManager, LogoCacheProperties logoCacheProperties){
         this.dataverseServiceProperties = dataverseServiceProperties;
         this.dataverseBuilder = mapper;
 	    this.storageService = storageService;
         this.resourceLoader = resourceLoader;
-        this.logo = null;
+        this.webClient = dataverseWebClient;
+        this.datasetWriter = datasetWriter;
+        this.depositMetrics = depositMetrics;
+        this.depositTracing = depositTracing;
+        this.dataverseResilience = dataverseResilience;
+        this.depositIdempotencyService = depositIdempotencyService;
+        this.depositJournal = depositJournal;
+        this.logoCacheProperties = logoCacheProperties;
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache logoCache = manager != null && logoCacheProperties.getName() != null ? manager.getCache(logoCacheProperties.getName()) : null;
+        this.logoCache = logoCache != null ? logoCache : new ConcurrentMapCache("logoByRepository");
     }
 
     @Override
     public String deposit(PlanDepositModel planDepositModel) throws Exception {
+        return this.deposit(planDepositModel, DepositProgressListener.NONE);
+    }
+
+    @Override
+    public String deposit(PlanDepositModel planDepositModel, DepositProgressListener progressListener) throws Exception {
 
         DepositConfiguration depositConfiguration = this.getConfiguration();
 
@@ -75,16 +118,19 @@ public class DataverseDepositServiceImpl implements DataverseDepositService {
 
             try {
 
+                String doi;
+                String depositToken = token;
                 if (previousDOI == null) {
-                    return depositFirst(planDepositModel.getPlanModel(), token);
+                    doi = this.depositTracing.traceDeposit(DepositMetrics.DEPOSIT_TYPE_NEW, () -> this.depositMetrics.recordDeposit(DepositMetrics.DEPOSIT_TYPE_NEW, () -> depositFirst(planDepositModel.getPlanModel(), depositToken, progressListener)));
                 } else {
-                    return depositNewVersion(planDepositModel.getPlanModel(), previousDOI, token);
+                    doi = this.depositTracing.traceDeposit(DepositMetrics.DEPOSIT_TYPE_VERSION, () -> this.depositMetrics.recordDeposit(DepositMetrics.DEPOSIT_TYPE_VERSION, () -> depositNewVersion(planDepositModel.getPlanModel(), previousDOI, depositToken, progressListener)));
                 }
+                progressListener.onProgress(DepositStage.Completed, 100);
+                return doi;
 
-            } catch (HttpClientErrorException | HttpServerErrorException ex) {
+            } catch (WebClientResponseException ex) {
                 logger.error(ex.getMessage(), ex);
-                Map<String, String> parsedException = objectMapper.readValue(ex.getResponseBodyAsString(), Map.class);
-                throw new IOException(parsedException.get("message"), ex);
+                throw new IOException(this.extractErrorMessage(ex), ex);
             }
 
         }
@@ -94,128 +140,386 @@ public class DataverseDepositServiceImpl implements DataverseDepositService {
     }
 
 
-    private String depositFirst(PlanModel planModel, String token) throws IOException {
-        DataverseDataset dataset = this.dataverseBuilder.build(planModel);
+    private String depositFirst(PlanModel planModel, String token, DepositProgressListener progressListener) throws Exception {
+        progressListener.onProgress(DepositStage.Building, 0);
+        DataverseDataset dataset = this.depositMetrics.recordStage(DepositMetrics.STAGE_BUILD, () -> this.dataverseBuilder.build(planModel));
+
+        String key = this.idempotencyKey(planModel, dataset, null, token);
+        return this.depositIdempotencyService.execute(key, progressListener, depositProgressListener -> {
+            DepositJournalEntry journal = this.depositJournal.open(key);
+            if (journal.getCompletedPersistentId() != null) {
+                logger.info(new MapLogEntry("Returning completed deposit").And("doi", journal.getCompletedPersistentId()));
+                return journal.getCompletedPersistentId();
+            }
+            if (journal.getPersistentId() != null) {
+                logger.info(new MapLogEntry("Resuming deposit").And("doi", journal.getPersistentId()).And("publishRequesting", journal.isPublishRequesting()).And("publishRequested", journal.isPublishRequested()));
+                if (journal.isPublishRequesting() || journal.isPublishRequested()) {
+                    depositProgressListener.onProgress(DepositStage.Publishing, 90);
+                    this.publish(journal.getPersistentId(), token, depositProgressListener, journal);
+                    return journal.getPersistentId();
+                }
+                return this.updateDraft(planModel, dataset, journal.getPersistentId(), token, depositProgressListener, journal);
+            }
+
+            String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "dataverses/" + this.dataverseBuilder.buildDataverseIdentifier(planModel) + "/datasets?doNotValidate=true";
+
+            depositProgressListener.onProgress(DepositStage.CreatingDataset, 10);
+
+            Map<String, Object> response = this.depositMetrics.recordStage(DepositMetrics.STAGE_CREATE, this.dataverseResilience.decorate(DepositMetrics.STAGE_CREATE, this.webClient.post().uri(url).headers(httpHeaders -> {
+                        httpHeaders.set("X-Dataverse-key", token);
+                        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+                    })
+                    .body(this.datasetWriter.inserter(dataset)).exchangeToMono(mono ->
+                            mono.statusCode().isError() ?
+                                    mono.createException().flatMap(Mono::error) :
+                                    mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})))).block();
+
+            response = (Map<String, Object>) response.get("data");
+            String doi = String.valueOf(response.get("persistentId"));
+            journal.recordCreated(doi);
+
+            this.uploadFiles(this.getFiles(planModel).stream().map(file -> new FileTransfer(file, null)).toList(), doi, token, depositProgressListener);
+            depositProgressListener.onProgress(DepositStage.Publishing, 90);
+            this.publish(doi, token, depositProgressListener, journal);
+            return doi;
+        });
+    }
+
+    private String idempotencyKey(PlanModel planModel, DataverseDataset dataset, String previousDOI, String token) {
+        if (planModel.getId() == null) return null;
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(IDEMPOTENCY_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            logger.warn("Unsupported checksum algorithm " + IDEMPOTENCY_DIGEST_ALGORITHM);
+            return null;
+        }
+        this.updateDigest(digest, this.getConfiguration().getRepositoryId());
+        this.updateDigest(digest, previousDOI);
+        this.updateDigest(digest, token);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            this.datasetWriter.write(generator, dataset);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+        for (FileEnvelopeModel file : this.getFiles(planModel)) {
+            String checksum = this.computeChecksum(file, IDEMPOTENCY_DIGEST_ALGORITHM);
+            if (checksum == null) return null;
+            this.updateDigest(digest, file.getFilename());
+            this.updateDigest(digest, checksum);
+        }
+        return planModel.getId() + "_" + planModel.getVersion() + "_" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void updateDigest(MessageDigest digest, String value) {
+        digest.update((value != null ? value : "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private String extractErrorMessage(WebClientResponseException ex) {
+        if (ex.getResponseBodyAsString().isBlank()) return ex.getMessage();
+        try {
+            Map<String, String> parsedException = objectMapper.readValue(ex.getResponseBodyAsString(), Map.class);
+            return parsedException.get("message");
+        } catch (IOException e) {
+            return ex.getResponseBodyAsString();
+        }
+    }
+
+    private List<FileEnvelopeModel> getFiles(PlanModel planModel) {
+        List<FileEnvelopeModel> files = new ArrayList<>();
+        if (planModel.getPdfFile() != null) files.add(planModel.getPdfFile());
+        if (planModel.getRdaJsonFile() != null) files.add(planModel.getRdaJsonFile());
+        if (planModel.getSupportingFilesZip() != null) files.add(planModel.getSupportingFilesZip());
+        return files;
+    }
+
+    private void uploadFiles(List<FileTransfer> files, String doi, String token, DepositProgressListener progressListener) throws IOException {
+        int parallelism = Math.max(1, this.dataverseServiceProperties.getUpload().getParallelism());
+        AtomicInteger uploaded = new AtomicInteger();
+        progressListener.onProgress(DepositStage.UploadingFiles, 30);
+        this.depositTracing.withCurrentSpan(Flux.fromIterable(files)
+                .flatMap(transfer -> (transfer.replacedFileId() == null ? this.uploadFile(transfer.file(), doi, token) : this.replaceFile(transfer.file(), transfer.replacedFileId(), token))
+                        .onErrorMap(ex -> {
+                            String message = ex instanceof WebClientResponseException responseException ? this.extractErrorMessage(responseException) : ex.getMessage();
+                            return new MyApplicationException("Failed to upload file " + transfer.file().getFilename() + ": " + message);
+                        })
+                        .doOnSuccess(response -> progressListener.onProgress(DepositStage.UploadingFiles, 30 + 50 * uploaded.incrementAndGet() / files.size())), parallelism))
+                .then().block();
+    }
+
+    private Mono<Map<String, Object>> uploadFile(FileEnvelopeModel fileEnvelopeModel, String doi, String token) {
+
+        Resource file = this.getFileResource(fileEnvelopeModel);
 
-        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "dataverses/" + this.dataverseBuilder.buildDataverseIdentifier(planModel) + "/datasets?doNotValidate=true";
+        MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
+        multipartBodyBuilder.part("file", file).filename(fileEnvelopeModel.getFilename());
+        multipartBodyBuilder.part("jsonData", "{\"restrict\":\"false\", \"tabIngest\":\"false\"}");
 
-        Map<String, Object> response = this.getWebClient().post().uri(url).headers(httpHeaders -> {
+        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/add?persistentId=" + doi;
+
+        return this.depositMetrics.recordTransfer(DepositMetrics.STAGE_UPLOAD, this.contentLength(file), this.dataverseResilience.decorate(DepositMetrics.STAGE_UPLOAD, this.webClient.post().uri(url).headers(httpHeaders -> {
                     httpHeaders.set("X-Dataverse-key", token);
-                    httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+                    httpHeaders.setContentType(MediaType.MULTIPART_FORM_DATA);
                 })
-                .bodyValue(dataset).exchangeToMono(mono ->
+                .body(BodyInserters.fromMultipartData(multipartBodyBuilder.build())).exchangeToMono(mono ->
                         mono.statusCode().isError() ?
                                 mono.createException().flatMap(Mono::error) :
-                                mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})).block();
+                                mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))));
+    }
 
-        response = (Map<String, Object>) response.get("data");
-        String doi = String.valueOf(response.get("persistentId"));
+    private Mono<Map<String, Object>> replaceFile(FileEnvelopeModel fileEnvelopeModel, int fileId, String token) {
 
-        this.uploadFiles(planModel, doi, token);
-        this.publish(doi, token);
-        return doi;
-    }
+        Resource file = this.getFileResource(fileEnvelopeModel);
+
+        MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
+        multipartBodyBuilder.part("file", file).filename(fileEnvelopeModel.getFilename());
+        multipartBodyBuilder.part("jsonData", "{\"forceReplace\":true}");
+
+        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "files/" + fileId + "/replace";
 
-    private void uploadFiles(PlanModel planModel, String doi, String token) throws IOException {
-        if (planModel.getPdfFile() != null) this.uploadFile(planModel.getPdfFile(), doi, token);
-        if (planModel.getRdaJsonFile() != null) this.uploadFile(planModel.getRdaJsonFile(), doi, token);
-        if (planModel.getSupportingFilesZip() != null) this.uploadFile(planModel.getSupportingFilesZip(), doi, token);
+        return this.depositMetrics.recordTransfer(DepositMetrics.STAGE_REPLACE, this.contentLength(file), this.dataverseResilience.decorate(DepositMetrics.STAGE_REPLACE, this.webClient.post().uri(url).headers(httpHeaders -> {
+                    httpHeaders.set("X-Dataverse-key", token);
+                    httpHeaders.setContentType(MediaType.MULTIPART_FORM_DATA);
+                })
+                .body(BodyInserters.fromMultipartData(multipartBodyBuilder.build())).exchangeToMono(mono ->
+                        mono.statusCode().isError() ?
+                                mono.createException().flatMap(Mono::error) :
+                                mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))));
     }
 
-    private void uploadFile(FileEnvelopeModel fileEnvelopeModel, String doi, String token) {
+    private boolean checksumMatches(FileEnvelopeModel fileEnvelopeModel, JsonNode dataFile) {
+        JsonNode checksum = dataFile.get("checksum");
+        if (checksum == null || !checksum.hasNonNull("type") || !checksum.hasNonNull("value")) return false;
+        String checksumValue = this.computeChecksum(fileEnvelopeModel, checksum.get("type").asText());
+        return checksumValue != null && checksumValue.equalsIgnoreCase(checksum.get("value").asText());
+    }
 
-        if (fileEnvelopeModel == null) return;
+    private boolean isReleased(JsonNode dataFile) {
+        return dataFile.hasNonNull("publicationDate");
+    }
 
-        byte[] fileBytes = null;
-        if (this.getConfiguration().isUseSharedStorage() && fileEnvelopeModel.getFileRef() != null && !fileEnvelopeModel.getFileRef().isBlank()) {
-            fileBytes = this.storageService.readFile(fileEnvelopeModel.getFileRef());
+    private String computeChecksum(FileEnvelopeModel fileEnvelopeModel, String algorithm) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            logger.warn("Unsupported checksum algorithm " + algorithm);
+            return null;
         }
-        if (fileBytes == null || fileBytes.length == 0){
-            fileBytes = fileEnvelopeModel.getFile();
+        try (InputStream inputStream = this.getFileResource(fileEnvelopeModel).getInputStream()) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) digest.update(buffer, 0, read);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
         }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
+    private Resource getFileResource(FileEnvelopeModel fileEnvelopeModel) {
+        if (this.getConfiguration().isUseSharedStorage() && fileEnvelopeModel.getFileRef() != null && !fileEnvelopeModel.getFileRef().isBlank()) {
+            Resource resource = this.storageService.readFileAsResource(fileEnvelopeModel.getFileRef());
+            try {
+                if (resource != null && resource.contentLength() > 0) return resource;
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        return new ByteArrayResource(fileEnvelopeModel.getFile() != null ? fileEnvelopeModel.getFile() : new byte[0]);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        headers.set("X-Dataverse-key", token);
-        MultiValueMap<String, String> fileMap = new LinkedMultiValueMap<>();
-        ContentDisposition contentDisposition = ContentDisposition
-                .builder("form-data")
-                .name("file")
-                .filename(fileEnvelopeModel.getFilename())
-                .build();
-        fileMap.add(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
-        HttpEntity<byte[]> fileEntity = new HttpEntity<>(fileBytes, fileMap);
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", fileEntity);
-        body.add("jsonData", "{\"restrict\":\"false\", \"tabIngest\":\"false\"}");
-        HttpEntity<MultiValueMap<String, Object>> requestEntity
-                = new HttpEntity<>(body, headers);
-
-        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/add?persistentId=" + doi;
-
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<Object> resp = restTemplate.postForEntity(url, requestEntity, Object.class);
+    private long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            logger.warn(e.getMessage());
+            return -1;
+        }
     }
 
     private void deleteFile(int fileId, String token){
         String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "files/" + fileId;
 
-        this.getWebClient().delete().uri(url).headers(httpHeaders -> {
+        this.depositMetrics.recordStage(DepositMetrics.STAGE_DELETE, this.dataverseResilience.decorate(DepositMetrics.STAGE_DELETE, this.webClient.delete().uri(url).headers(httpHeaders -> {
                     httpHeaders.set("X-Dataverse-key", token);
                     httpHeaders.setContentType(MediaType.APPLICATION_JSON);
                 }).exchangeToMono(mono ->
                 mono.statusCode().isError() ?
                         mono.createException().flatMap(Mono::error) :
                         mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                        })).block();
+                        })))).block();
     }
 
-    private void publish(String doi, String token) {
+    private void publish(String doi, String token, DepositProgressListener progressListener, DepositJournalEntry journal) {
 
-        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/actions/:publish?persistentId=" + doi + "&type=major";
+        if (!journal.isPublishRequested() && journal.isPublishRequesting() && this.isPublishing(doi, token)) {
+            logger.info(new MapLogEntry("Publish already accepted by Dataverse").And("doi", doi));
+            journal.recordPublishRequested();
+        }
+
+        if (!journal.isPublishRequested()) {
+            if (!journal.isPublishRequesting()) journal.recordPublishRequesting();
+            String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/actions/:publish?persistentId=" + doi + "&type=major";
+
+            this.depositMetrics.recordStage(DepositMetrics.STAGE_PUBLISH, this.dataverseResilience.decorate(DepositMetrics.STAGE_PUBLISH, this.webClient.post().uri(url).headers(httpHeaders -> {
+                httpHeaders.set("X-Dataverse-key", token);
+                httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+            }).exchangeToMono(mono ->
+                    mono.statusCode().isError() ?
+                            mono.createException().flatMap(Mono::error) :
+                            mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                            }))))
+                    .switchIfEmpty(Mono.error(() -> new UnsupportedOperationException("Failed to publish to Dataverse")))
+                    .block();
+            journal.recordPublishRequested();
+        }
+
+        progressListener.onProgress(DepositStage.AwaitingRelease, 95);
+        this.awaitRelease(doi, token).block();
+        journal.complete(doi);
+    }
+
+    private boolean isPublishing(String doi, String token) {
+        if (RELEASED_VERSION_STATE.equals(this.fetchVersionState(doi, token).block())) return true;
+
+        List<String> locks = this.fetchLocks(doi, token).block();
+        return locks != null && locks.stream().anyMatch(this.dataverseServiceProperties.getPublish().getPublishingLockTypes()::contains);
+    }
 
-        Map<String, Object> publishResponse = this.getWebClient().post().uri(url).headers(httpHeaders -> {
-            httpHeaders.set("X-Dataverse-key", token);
-            httpHeaders.setContentType(MediaType.APPLICATION_JSON);
-        }).exchangeToMono(mono ->
+    private Mono<String> fetchVersionState(String doi, String token) {
+        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/?persistentId=" + doi;
+
+        return this.dataverseResilience.decorate(DepositMetrics.STAGE_LOCKS, this.webClient.get().uri(url).headers(httpHeaders -> httpHeaders.set("X-Dataverse-key", token)).exchangeToMono(mono ->
                 mono.statusCode().isError() ?
                         mono.createException().flatMap(Mono::error) :
-                        mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                        })).block();
+                        mono.bodyToMono(JsonNode.class)))
+                .mapNotNull(response -> response.path("data").path("latestVersion").path("versionState").asText(null));
+    }
+
+    private Mono<Void> awaitRelease(String doi, String token) {
+        DataverseServiceProperties.Publish publish = this.dataverseServiceProperties.getPublish();
+        if (!publish.isAwaitRelease()) return Mono.empty();
 
-        if (publishResponse == null) throw new UnsupportedOperationException("Failed to publish to Dataverse");
+        return this.depositMetrics.recordStage(DepositMetrics.STAGE_RELEASE, Mono.defer(() -> this.pollLocks(doi, token, publish.getInitialPollInterval()))
+                .timeout(publish.getReleaseTimeout(), Mono.error(() -> new MyApplicationException("Dataset " + doi + " is still locked after " + publish.getReleaseTimeout()))));
+    }
+
+    private Mono<Void> pollLocks(String doi, String token, Duration interval) {
+        DataverseServiceProperties.Publish publish = this.dataverseServiceProperties.getPublish();
+        return this.fetchLocks(doi, token).flatMap(locks -> {
+            if (locks.isEmpty()) return Mono.empty();
+            for (String lock : locks) {
+                if (publish.getFailureLockTypes().contains(lock)) return Mono.error(new MyApplicationException("Dataset " + doi + " is locked: " + lock));
+            }
+            logger.debug(new MapLogEntry("Dataset locked").And("doi", doi).And("locks", locks).And("retryIn", interval));
+
+            Duration next = Duration.ofMillis(Math.min(publish.getMaxPollInterval().toMillis(), (long) (interval.toMillis() * Math.max(1, publish.getPollMultiplier()))));
+            return Mono.delay(interval).then(Mono.defer(() -> this.pollLocks(doi, token, next)));
+        });
+    }
+
+    private Mono<List<String>> fetchLocks(String doi, String token) {
+        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/locks?persistentId=" + doi;
+
+        return this.dataverseResilience.decorate(DepositMetrics.STAGE_LOCKS, this.webClient.get().uri(url).headers(httpHeaders -> httpHeaders.set("X-Dataverse-key", token)).exchangeToMono(mono ->
+                mono.statusCode().isError() ?
+                        mono.createException().flatMap(Mono::error) :
+                        mono.bodyToMono(JsonNode.class)))
+                .map(response -> {
+                    List<String> locks = new ArrayList<>();
+                    JsonNode data = response.get("data");
+                    if (data != null && data.isArray()) {
+                        for (JsonNode lock : data) locks.add(lock.path("lockType").asText());
+                    }
+                    return locks;
+                })
+                .defaultIfEmpty(List.of());
+    }
+
+    private String depositNewVersion(PlanModel planModel, String previousDOI, String token, DepositProgressListener progressListener) throws Exception {
+        progressListener.onProgress(DepositStage.Building, 0);
+        DataverseDataset dataset = this.depositMetrics.recordStage(DepositMetrics.STAGE_BUILD, () -> this.dataverseBuilder.build(planModel));
+
+        String key = this.idempotencyKey(planModel, dataset, previousDOI, token);
+        return this.depositIdempotencyService.execute(key, progressListener, depositProgressListener -> {
+            DepositJournalEntry journal = this.depositJournal.open(key);
+            if (journal.getCompletedPersistentId() != null) {
+                logger.info(new MapLogEntry("Returning completed deposit").And("doi", journal.getCompletedPersistentId()));
+                return journal.getCompletedPersistentId();
+            }
+            if (journal.isPublishRequesting() || journal.isPublishRequested()) {
+                logger.info(new MapLogEntry("Resuming deposit").And("doi", previousDOI).And("publishRequesting", journal.isPublishRequesting()).And("publishRequested", journal.isPublishRequested()));
+                depositProgressListener.onProgress(DepositStage.Publishing, 90);
+                this.publish(previousDOI, token, depositProgressListener, journal);
+                return previousDOI;
+            }
+            return this.updateDraft(planModel, dataset, previousDOI, token, depositProgressListener, journal);
+        });
     }
 
-    private String depositNewVersion(PlanModel planModel, String previousDOI, String token) throws IOException {
-        DataverseDataset dataset = this.dataverseBuilder.build(planModel);
+    private String updateDraft(PlanModel planModel, DataverseDataset dataset, String doi, String token, DepositProgressListener progressListener, DepositJournalEntry journal) throws IOException {
+        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/versions/:draft?persistentId=" + doi;
+
+        progressListener.onProgress(DepositStage.CreatingDataset, 10);
 
-        String url = this.dataverseServiceProperties.getDepositConfiguration().getRepositoryUrl() + "datasets/:persistentId/versions/:draft?persistentId=" + previousDOI;
+        this.awaitRelease(doi, token).block();
 
-        Map<String, Object> response = this.getWebClient().put().uri(url).headers(httpHeaders -> {
+        Map<String, Object> response = this.depositMetrics.recordStage(DepositMetrics.STAGE_DRAFT, this.dataverseResilience.decorate(DepositMetrics.STAGE_DRAFT, this.webClient.put().uri(url).headers(httpHeaders -> {
                     httpHeaders.set("X-Dataverse-key", token);
                     httpHeaders.setContentType(MediaType.APPLICATION_JSON);
                 })
-                .bodyValue(dataset.getDatasetVersion()).exchangeToMono(mono ->
+                .body(this.datasetWriter.inserter(dataset.getDatasetVersion())).exchangeToMono(mono ->
                         mono.statusCode().isError() ?
                                 mono.createException().flatMap(Mono::error) :
-                                mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})).block();
+                                mono.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})))).block();
 
         if (response == null) throw new MyApplicationException("cannot create new draft version");
 
         JsonNode jsonNode = objectMapper.convertValue(response, JsonNode.class);
         JsonNode files = jsonNode.get("data").get("files");
 
-        if (files.isArray()) {
+        Map<String, List<JsonNode>> draftFiles = new LinkedHashMap<>();
+        if (files != null && files.isArray()) {
             for (JsonNode file : files) {
-                int fileId = file.get("dataFile").get("id").asInt();
-                this.deleteFile(fileId, token);
+                JsonNode dataFile = file.get("dataFile");
+                if (dataFile == null || dataFile.get("id") == null) continue;
+                String filename = file.hasNonNull("label") ? file.get("label").asText() : dataFile.path("filename").asText();
+                draftFiles.computeIfAbsent(filename, x -> new ArrayList<>()).add(dataFile);
+            }
+        }
+
+        List<FileTransfer> transfers = new ArrayList<>();
+        List<JsonNode> removedFiles = new ArrayList<>();
+        for (FileEnvelopeModel file : this.getFiles(planModel)) {
+            List<JsonNode> candidates = draftFiles.remove(file.getFilename());
+            if (candidates == null) {
+                transfers.add(new FileTransfer(file, null));
+                continue;
+            }
+            JsonNode kept = candidates.stream().filter(dataFile -> this.checksumMatches(file, dataFile)).findFirst().orElse(null);
+            if (kept == null) {
+                kept = candidates.stream().filter(this::isReleased).findFirst().orElse(null);
+                transfers.add(new FileTransfer(file, kept != null ? kept.get("id").asInt() : null));
+            }
+            for (JsonNode candidate : candidates) {
+                if (candidate != kept) removedFiles.add(candidate);
             }
         }
+        draftFiles.values().forEach(removedFiles::addAll);
 
-        this.uploadFiles(planModel, previousDOI, token);
-        this.publish(previousDOI, token);
-        return previousDOI;
+        progressListener.onProgress(DepositStage.DeletingFiles, 20);
+        for (JsonNode removedFile : removedFiles) {
+            this.deleteFile(removedFile.get("id").asInt(), token);
+        }
+
+        this.uploadFiles(transfers, doi, token, progressListener);
+        progressListener.onProgress(DepositStage.Publishing, 90);
+        this.publish(doi, token, progressListener, journal);
+        return doi;
     }
 
 
@@ -231,53 +535,47 @@ public class DataverseDepositServiceImpl implements DataverseDepositService {
 
     @Override
     public String getLogo() {
+        CachedLogo logo = this.cachedLogo();
+        return logo != null ? logo.content() : null;
+    }
+
+    @Override
+    public String getLogoETag() {
+        CachedLogo logo = this.cachedLogo();
+        return logo != null ? logo.eTag() : null;
+    }
+
+    private CachedLogo cachedLogo() {
         DepositConfiguration dataverseConfig = this.dataverseServiceProperties.getDepositConfiguration();
         if(dataverseConfig != null && dataverseConfig.isHasLogo() && this.dataverseServiceProperties.getLogo() != null && !this.dataverseServiceProperties.getLogo().isBlank()) {
-            if (this.logo == null) {
-                try {
-                    Resource resource = resourceLoader.getResource(this.dataverseServiceProperties.getLogo());
-                    if(!resource.isReadable()) return null;
-                    try(InputStream inputStream = resource.getInputStream()) {
-                        this.logo = inputStream.readAllBytes();
-                    }
-                } catch (IOException e) {
-                    logger.error(e.getMessage(), e);
-                    throw new RuntimeException(e);
-                }
-            }
-            return (this.logo != null && this.logo.length != 0) ? Base64.getEncoder().encodeToString(this.logo) : null;
+            CachedLogo logo = this.logoCache.get(this.logoCacheKey(dataverseConfig), this::loadLogo);
+            return logo != null && logo.content() != null ? logo : null;
         }
         return null;
     }
-    
-    private WebClient getWebClient(){
-        return WebClient.builder().filters(exchangeFilterFunctions -> {
-            exchangeFilterFunctions.add(logRequest());
-            exchangeFilterFunctions.add(logResponse());
-        }).codecs(codecs -> codecs
-                .defaultCodecs()
-                .maxInMemorySize(this.dataverseServiceProperties.getMaxInMemorySizeInBytes())
-        ).build();
-    }
-
-    private static ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            logger.debug(new MapLogEntry("Request").And("method", clientRequest.method().toString()).And("url", clientRequest.url().toString()));
-            return Mono.just(clientRequest);
-        });
-    }
 
-    private static ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(response -> {
-            if (response.statusCode().isError()) {
-                return response.mutate().build().bodyToMono(String.class)
-                    .flatMap(body -> {
-                        logger.error(new MapLogEntry("Response").And("method", response.request().getMethod().toString()).And("url", response.request().getURI()).And("status", response.statusCode().toString()).And("body", body));
-                        return Mono.just(response);
-                    });
+    private CachedLogo loadLogo() {
+        try {
+            Resource resource = resourceLoader.getResource(this.dataverseServiceProperties.getLogo());
+            if(!resource.isReadable()) return new CachedLogo(null, null);
+            try(InputStream inputStream = resource.getInputStream()) {
+                String content = Base64.getEncoder().encodeToString(inputStream.readAllBytes());
+                return new CachedLogo(content, "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"");
             }
-            return Mono.just(response);
-            
-        });
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String logoCacheKey(DepositConfiguration dataverseConfig) {
+        String keyPattern = this.logoCacheProperties.getKeyPattern() != null ? this.logoCacheProperties.getKeyPattern() : "$repo$";
+        return keyPattern.replace("$repo$", String.valueOf(dataverseConfig.getRepositoryId()));
+    }
+
+    private record FileTransfer(FileEnvelopeModel file, Integer replacedFileId) {
+    }
+
+    private record CachedLogo(String content, String eTag) implements Serializable {
     }
 }
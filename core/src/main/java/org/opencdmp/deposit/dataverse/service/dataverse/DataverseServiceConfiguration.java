@@ -1,9 +1,82 @@
 package org.opencdmp.deposit.dataverse.service.dataverse;
 
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import io.netty.channel.ChannelOption;
+import org.opencdmp.deposit.dataverse.service.ratelimit.DataverseRateLimiter;
+import org.opencdmp.deposit.dataverse.service.tracing.DepositTracing;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
-@EnableConfigurationProperties({DataverseServiceProperties.class})
+@EnableConfigurationProperties({DataverseServiceProperties.class, LogoCacheProperties.class})
 public class DataverseServiceConfiguration {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DataverseServiceConfiguration.class));
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider dataverseConnectionProvider(DataverseServiceProperties dataverseServiceProperties) {
+        DataverseServiceProperties.Connection connection = dataverseServiceProperties.getConnection();
+        return ConnectionProvider.builder("dataverse")
+                .maxConnections(connection.getMaxConnections())
+                .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(connection.getPendingAcquireTimeout())
+                .maxIdleTime(connection.getMaxIdleTime())
+                .maxLifeTime(connection.getMaxLifeTime())
+                .evictInBackground(connection.getEvictInBackground())
+                .build();
+    }
+
+    @Bean
+    public WebClient dataverseWebClient(DataverseServiceProperties dataverseServiceProperties, ConnectionProvider dataverseConnectionProvider, DepositTracing depositTracing, DataverseRateLimiter dataverseRateLimiter) {
+        DataverseServiceProperties.Connection connection = dataverseServiceProperties.getConnection();
+        HttpClient httpClient = HttpClient.create(dataverseConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connection.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, connection.isKeepAlive())
+                .keepAlive(connection.isKeepAlive())
+                .responseTimeout(connection.getResponseTimeout());
+        if (connection.isHttp2Enabled()) httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filters(exchangeFilterFunctions -> {
+                    exchangeFilterFunctions.add(depositTracing.exchangeFilter());
+                    exchangeFilterFunctions.add(dataverseRateLimiter.exchangeFilter());
+                    exchangeFilterFunctions.add(logRequest());
+                    exchangeFilterFunctions.add(logResponse());
+                }).codecs(codecs -> codecs
+                        .defaultCodecs()
+                        .maxInMemorySize(dataverseServiceProperties.getMaxInMemorySizeInBytes())
+                ).build();
+    }
+
+    private static ExchangeFilterFunction logRequest() {
+        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
+            logger.debug(new MapLogEntry("Request").And("method", clientRequest.method().toString()).And("url", clientRequest.url().toString()));
+            return Mono.just(clientRequest);
+        });
+    }
+
+    private static ExchangeFilterFunction logResponse() {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            if (response.statusCode().isError()) {
+                return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> {
+                        logger.error(new MapLogEntry("Response").And("method", response.request().getMethod().toString()).And("url", response.request().getURI()).And("status", response.statusCode().toString()).And("body", body));
+                        return response.mutate().body(body).build();
+                    });
+            }
+            return Mono.just(response);
+
+        });
+    }
 }
@@ -3,6 +3,12 @@ package org.opencdmp.deposit.dataverse.service.dataverse;
 import org.opencdmp.depositbase.repository.DepositConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 @ConfigurationProperties(prefix = "dataverse")
 public class DataverseServiceProperties {
 
@@ -24,6 +30,18 @@ public class DataverseServiceProperties {
 
     private int maxInMemorySizeInBytes;
 
+    private Connection connection = new Connection();
+
+    private Upload upload = new Upload();
+
+    private Build build = new Build();
+
+    private Resilience resilience = new Resilience();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Publish publish = new Publish();
+
     public String getLogo() {
         return logo;
     }
@@ -95,4 +113,529 @@ public class DataverseServiceProperties {
     public void setMaxInMemorySizeInBytes(int maxInMemorySizeInBytes) {
         this.maxInMemorySizeInBytes = maxInMemorySizeInBytes;
     }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public void setConnection(Connection connection) {
+        this.connection = connection;
+    }
+
+    public Upload getUpload() {
+        return upload;
+    }
+
+    public void setUpload(Upload upload) {
+        this.upload = upload;
+    }
+
+    public Build getBuild() {
+        return build;
+    }
+
+    public void setBuild(Build build) {
+        this.build = build;
+    }
+
+    public Resilience getResilience() {
+        return resilience;
+    }
+
+    public void setResilience(Resilience resilience) {
+        this.resilience = resilience;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public Publish getPublish() {
+        return publish;
+    }
+
+    public void setPublish(Publish publish) {
+        this.publish = publish;
+    }
+
+    public static class Connection {
+        private int maxConnections = 50;
+
+        private int pendingAcquireMaxCount = 500;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+
+        private Duration evictInBackground = Duration.ofSeconds(60);
+
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        private Duration responseTimeout = Duration.ofMinutes(10);
+
+        private boolean keepAlive = true;
+
+        private boolean http2Enabled = true;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictInBackground() {
+            return evictInBackground;
+        }
+
+        public void setEvictInBackground(Duration evictInBackground) {
+            this.evictInBackground = evictInBackground;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public boolean isHttp2Enabled() {
+            return http2Enabled;
+        }
+
+        public void setHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+        }
+    }
+
+    public static class Upload {
+        private int parallelism = 1;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    public static class Build {
+        private boolean parallel = false;
+
+        private int parallelThreshold = 100;
+
+        public boolean isParallel() {
+            return parallel;
+        }
+
+        public void setParallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getParallelThreshold() {
+            return parallelThreshold;
+        }
+
+        public void setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+        }
+    }
+
+    public static class Resilience {
+        private Retry retry = new Retry();
+
+        private Map<String, Duration> timeouts = new HashMap<>();
+
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public void setRetry(Retry retry) {
+            this.retry = retry;
+        }
+
+        public Map<String, Duration> getTimeouts() {
+            return timeouts;
+        }
+
+        public void setTimeouts(Map<String, Duration> timeouts) {
+            this.timeouts = timeouts;
+        }
+
+        public CircuitBreaker getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    public static class Retry {
+        private boolean enabled = true;
+
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(500);
+
+        private Duration maxBackoff = Duration.ofSeconds(10);
+
+        private double jitter = 0.5;
+
+        private Duration maxRetryAfter = Duration.ofMinutes(1);
+
+        private Set<String> stages = new HashSet<>(Set.of("publish", "delete", "draft", "locks"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(double jitter) {
+            this.jitter = jitter;
+        }
+
+        public Duration getMaxRetryAfter() {
+            return maxRetryAfter;
+        }
+
+        public void setMaxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+        }
+
+        public Set<String> getStages() {
+            return stages;
+        }
+
+        public void setStages(Set<String> stages) {
+            this.stages = stages;
+        }
+    }
+
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+
+        private int slidingWindowSize = 20;
+
+        private int minimumNumberOfCalls = 10;
+
+        private int failureRateThreshold = 50;
+
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumNumberOfCalls() {
+            return minimumNumberOfCalls;
+        }
+
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getWaitDurationInOpenState() {
+            return waitDurationInOpenState;
+        }
+
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        public int getPermittedNumberOfCallsInHalfOpenState() {
+            return permittedNumberOfCallsInHalfOpenState;
+        }
+
+        public void setPermittedNumberOfCallsInHalfOpenState(int permittedNumberOfCallsInHalfOpenState) {
+            this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+        }
+    }
+
+    public static class Publish {
+        private boolean awaitRelease = true;
+
+        private Duration initialPollInterval = Duration.ofMillis(500);
+
+        private Duration maxPollInterval = Duration.ofSeconds(10);
+
+        private double pollMultiplier = 2;
+
+        private Duration releaseTimeout = Duration.ofMinutes(15);
+
+        private Set<String> failureLockTypes = new HashSet<>(Set.of("FileValidationFailed", "InReview"));
+
+        private Set<String> publishingLockTypes = new HashSet<>(Set.of("finalizePublication", "pidRegister", "Workflow"));
+
+        public boolean isAwaitRelease() {
+            return awaitRelease;
+        }
+
+        public void setAwaitRelease(boolean awaitRelease) {
+            this.awaitRelease = awaitRelease;
+        }
+
+        public Duration getInitialPollInterval() {
+            return initialPollInterval;
+        }
+
+        public void setInitialPollInterval(Duration initialPollInterval) {
+            this.initialPollInterval = initialPollInterval;
+        }
+
+        public Duration getMaxPollInterval() {
+            return maxPollInterval;
+        }
+
+        public void setMaxPollInterval(Duration maxPollInterval) {
+            this.maxPollInterval = maxPollInterval;
+        }
+
+        public double getPollMultiplier() {
+            return pollMultiplier;
+        }
+
+        public void setPollMultiplier(double pollMultiplier) {
+            this.pollMultiplier = pollMultiplier;
+        }
+
+        public Duration getReleaseTimeout() {
+            return releaseTimeout;
+        }
+
+        public void setReleaseTimeout(Duration releaseTimeout) {
+            this.releaseTimeout = releaseTimeout;
+        }
+
+        public Set<String> getFailureLockTypes() {
+            return failureLockTypes;
+        }
+
+        public void setFailureLockTypes(Set<String> failureLockTypes) {
+            this.failureLockTypes = failureLockTypes;
+        }
+
+        public Set<String> getPublishingLockTypes() {
+            return publishingLockTypes;
+        }
+
+        public void setPublishingLockTypes(Set<String> publishingLockTypes) {
+            this.publishingLockTypes = publishingLockTypes;
+        }
+    }
+
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        private Duration maxWait = Duration.ofSeconds(30);
+
+        private int maxQueuedCalls = 500;
+
+        private int maxTrackedTokens = 1000;
+
+        private Limit repository = new Limit(20, 40, 16);
+
+        private Limit token = new Limit(5, 10, 4);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getMaxQueuedCalls() {
+            return maxQueuedCalls;
+        }
+
+        public void setMaxQueuedCalls(int maxQueuedCalls) {
+            this.maxQueuedCalls = maxQueuedCalls;
+        }
+
+        public int getMaxTrackedTokens() {
+            return maxTrackedTokens;
+        }
+
+        public void setMaxTrackedTokens(int maxTrackedTokens) {
+            this.maxTrackedTokens = maxTrackedTokens;
+        }
+
+        public Limit getRepository() {
+            return repository;
+        }
+
+        public void setRepository(Limit repository) {
+            this.repository = repository;
+        }
+
+        public Limit getToken() {
+            return token;
+        }
+
+        public void setToken(Limit token) {
+            this.token = token;
+        }
+    }
+
+    public static class Limit {
+        private double permitsPerSecond;
+
+        private int burst;
+
+        private int maxConcurrentCalls;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst, int maxConcurrentCalls) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package org.opencdmp.deposit.dataverse.service.dataverse;
+
+@FunctionalInterface
+public interface DepositProgressListener {
+    DepositProgressListener NONE = (stage, progress) -> {};
+
+    void onProgress(DepositStage stage, int progress);
+}
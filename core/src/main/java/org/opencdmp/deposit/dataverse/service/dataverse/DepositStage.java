@@ -0,0 +1,12 @@
+package org.opencdmp.deposit.dataverse.service.dataverse;
+
+public enum DepositStage {
+    Queued,
+    Building,
+    CreatingDataset,
+    DeletingFiles,
+    UploadingFiles,
+    Publishing,
+    AwaitingRelease,
+    Completed
+}
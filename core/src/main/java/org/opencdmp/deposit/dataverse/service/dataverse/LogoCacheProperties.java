@@ -0,0 +1,27 @@
+package org.opencdmp.deposit.dataverse.service.dataverse;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.logo-by-repository")
+public class LogoCacheProperties {
+
+    private String name;
+
+    private String keyPattern;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKeyPattern() {
+        return keyPattern;
+    }
+
+    public void setKeyPattern(String keyPattern) {
+        this.keyPattern = keyPattern;
+    }
+}
@@ -0,0 +1,9 @@
+package org.opencdmp.deposit.dataverse.service.depositbatch;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DepositBatchProperties.class})
+public class DepositBatchConfiguration {
+}
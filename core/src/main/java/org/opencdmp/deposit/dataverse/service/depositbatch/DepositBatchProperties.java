@@ -0,0 +1,27 @@
+package org.opencdmp.deposit.dataverse.service.depositbatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "deposit.batch")
+public class DepositBatchProperties {
+
+    private int parallelism = 4;
+
+    private int maxBatchSize = 500;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
@@ -0,0 +1,46 @@
+package org.opencdmp.deposit.dataverse.service.depositbatch;
+
+import java.util.UUID;
+
+public class DepositBatchResult {
+
+    private int index;
+
+    private UUID planId;
+
+    private String doi;
+
+    private String error;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public UUID getPlanId() {
+        return planId;
+    }
+
+    public void setPlanId(UUID planId) {
+        this.planId = planId;
+    }
+
+    public String getDoi() {
+        return doi;
+    }
+
+    public void setDoi(String doi) {
+        this.doi = doi;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,9 @@
+package org.opencdmp.deposit.dataverse.service.depositbatch;
+
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+
+import java.util.List;
+
+public interface DepositBatchService {
+	List<DepositBatchResult> deposit(List<PlanDepositModel> planDepositModels);
+}
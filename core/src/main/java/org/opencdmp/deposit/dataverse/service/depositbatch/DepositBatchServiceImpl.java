@@ -0,0 +1,98 @@
+package org.opencdmp.deposit.dataverse.service.depositbatch;
+
+import gr.cite.tools.exception.MyValidationException;
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositService;
+import org.opencdmp.deposit.dataverse.service.tracing.DepositTracing;
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Component
+public class DepositBatchServiceImpl implements DepositBatchService, DisposableBean {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DepositBatchServiceImpl.class));
+
+    private final DataverseDepositService depositService;
+    private final DepositBatchProperties properties;
+    private final DepositTracing depositTracing;
+
+    private final ExecutorService executorService;
+    private final Semaphore runningDeposits;
+
+    @Autowired
+    public DepositBatchServiceImpl(DataverseDepositService depositService, DepositBatchProperties properties, DepositTracing depositTracing) {
+        this.depositService = depositService;
+        this.properties = properties;
+        this.depositTracing = depositTracing;
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("deposit-batch-", 0).factory());
+        this.runningDeposits = new Semaphore(Math.max(1, properties.getParallelism()));
+    }
+
+    @Override
+    public List<DepositBatchResult> deposit(List<PlanDepositModel> planDepositModels) {
+        if (planDepositModels == null || planDepositModels.isEmpty()) return new ArrayList<>();
+        if (planDepositModels.size() > this.properties.getMaxBatchSize()) throw new MyValidationException("Batch size exceeds the maximum of " + this.properties.getMaxBatchSize() + " plans");
+
+        List<Future<DepositBatchResult>> futures = new ArrayList<>(planDepositModels.size());
+        for (int i = 0; i < planDepositModels.size(); i++) {
+            int index = i;
+            futures.add(this.executorService.submit(this.depositTracing.withCurrentSpan(() -> this.deposit(index, planDepositModels.get(index)))));
+        }
+
+        List<DepositBatchResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                results.add(this.failed(i, planDepositModels.get(i), e));
+            } catch (ExecutionException e) {
+                results.add(this.failed(i, planDepositModels.get(i), e.getCause() instanceof Exception cause ? cause : e));
+            }
+        }
+        return results;
+    }
+
+    private DepositBatchResult deposit(int index, PlanDepositModel planDepositModel) throws InterruptedException {
+        this.runningDeposits.acquire();
+        try {
+            DepositBatchResult result = this.result(index, planDepositModel);
+            result.setDoi(this.depositService.deposit(planDepositModel));
+            return result;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(new MapLogEntry("Batch deposit failed").And("index", index).And("plan", this.result(index, planDepositModel).getPlanId()));
+            logger.error(e.getMessage(), e);
+            return this.failed(index, planDepositModel, e);
+        } finally {
+            this.runningDeposits.release();
+        }
+    }
+
+    private DepositBatchResult failed(int index, PlanDepositModel planDepositModel, Exception e) {
+        DepositBatchResult result = this.result(index, planDepositModel);
+        result.setError(e.getMessage());
+        return result;
+    }
+
+    private DepositBatchResult result(int index, PlanDepositModel planDepositModel) {
+        DepositBatchResult result = new DepositBatchResult();
+        result.setIndex(index);
+        if (planDepositModel != null && planDepositModel.getPlanModel() != null) result.setPlanId(planDepositModel.getPlanModel().getId());
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        this.executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,109 @@
+package org.opencdmp.deposit.dataverse.service.depositjob;
+
+import org.opencdmp.deposit.dataverse.service.dataverse.DepositStage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class DepositJob {
+
+    private UUID id;
+
+    private UUID planId;
+
+    private volatile DepositJobStatus status;
+
+    private volatile DepositStage stage;
+
+    private volatile int progress;
+
+    private volatile String doi;
+
+    private volatile String error;
+
+    private Instant createdAt;
+
+    private volatile Instant updatedAt;
+
+    private volatile Instant completedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getPlanId() {
+        return planId;
+    }
+
+    public void setPlanId(UUID planId) {
+        this.planId = planId;
+    }
+
+    public DepositJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DepositJobStatus status) {
+        this.status = status;
+    }
+
+    public DepositStage getStage() {
+        return stage;
+    }
+
+    public void setStage(DepositStage stage) {
+        this.stage = stage;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public String getDoi() {
+        return doi;
+    }
+
+    public void setDoi(String doi) {
+        this.doi = doi;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package org.opencdmp.deposit.dataverse.service.depositjob;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DepositJobProperties.class})
+public class DepositJobConfiguration {
+}
@@ -0,0 +1,11 @@
+package org.opencdmp.deposit.dataverse.service.depositjob;
+
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+
+import java.util.UUID;
+
+public interface DepositJobService {
+	DepositJob submit(PlanDepositModel planDepositModel);
+
+	DepositJob get(UUID id);
+}
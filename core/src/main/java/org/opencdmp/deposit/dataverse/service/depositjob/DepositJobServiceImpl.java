@@ -0,0 +1,145 @@
+package org.opencdmp.deposit.dataverse.service.depositjob;
+
+import gr.cite.tools.exception.MyApplicationException;
+import gr.cite.tools.exception.MyNotFoundException;
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositService;
+import org.opencdmp.deposit.dataverse.service.dataverse.DepositStage;
+import org.opencdmp.deposit.dataverse.service.tracing.DepositTracing;
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class DepositJobServiceImpl implements DepositJobService, DisposableBean {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DepositJobServiceImpl.class));
+
+    private final DataverseDepositService depositService;
+    private final DepositJobProperties properties;
+    private final DepositTracing depositTracing;
+
+    private final ConcurrentHashMap<UUID, DepositJob> jobs;
+    private final ExecutorService executorService;
+    private final Semaphore runningJobs;
+    private final AtomicInteger pendingJobs;
+
+    @Autowired
+    public DepositJobServiceImpl(DataverseDepositService depositService, DepositJobProperties properties, DepositTracing depositTracing) {
+        this.depositService = depositService;
+        this.properties = properties;
+        this.depositTracing = depositTracing;
+        this.jobs = new ConcurrentHashMap<>();
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("deposit-job-", 0).factory());
+        this.runningJobs = new Semaphore(Math.max(1, properties.getMaxConcurrentJobs()));
+        this.pendingJobs = new AtomicInteger();
+    }
+
+    @Override
+    public DepositJob submit(PlanDepositModel planDepositModel) {
+        this.purgeExpiredJobs();
+
+        if (this.pendingJobs.incrementAndGet() > this.properties.getMaxPendingJobs()) {
+            this.pendingJobs.decrementAndGet();
+            throw new MyApplicationException("Too many pending deposit jobs, try again later");
+        }
+
+        Instant now = Instant.now();
+        DepositJob job = new DepositJob();
+        job.setId(UUID.randomUUID());
+        job.setPlanId(planDepositModel != null && planDepositModel.getPlanModel() != null ? planDepositModel.getPlanModel().getId() : null);
+        job.setStatus(DepositJobStatus.Pending);
+        job.setStage(DepositStage.Queued);
+        job.setProgress(0);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        this.jobs.put(job.getId(), job);
+
+        this.executorService.execute(this.depositTracing.withCurrentSpan(() -> this.run(job, planDepositModel)));
+        return job;
+    }
+
+    @Override
+    public DepositJob get(UUID id) {
+        this.purgeExpiredJobs();
+
+        DepositJob job = this.jobs.get(id);
+        if (job == null) throw new MyNotFoundException("Deposit job " + id + " not found");
+        return job;
+    }
+
+    private void run(DepositJob job, PlanDepositModel planDepositModel) {
+        try {
+            this.runningJobs.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.pendingJobs.decrementAndGet();
+            this.fail(job, e);
+            return;
+        }
+        try {
+            this.pendingJobs.decrementAndGet();
+            job.setStatus(DepositJobStatus.Running);
+            job.setUpdatedAt(Instant.now());
+
+            String doi = this.depositService.deposit(planDepositModel, (stage, progress) -> {
+                job.setStage(stage);
+                job.setProgress(progress);
+                job.setUpdatedAt(Instant.now());
+            });
+
+            job.setDoi(doi);
+            job.setStage(DepositStage.Completed);
+            job.setProgress(100);
+            job.setStatus(DepositJobStatus.Completed);
+            Instant now = Instant.now();
+            job.setUpdatedAt(now);
+            job.setCompletedAt(now);
+        } catch (Exception e) {
+            logger.error(new MapLogEntry("Deposit job failed").And("job", job.getId()).And("plan", job.getPlanId()).And("stage", job.getStage()));
+            logger.error(e.getMessage(), e);
+            this.fail(job, e);
+        } finally {
+            this.runningJobs.release();
+        }
+    }
+
+    private void fail(DepositJob job, Exception e) {
+        job.setError(e.getMessage());
+        job.setStatus(DepositJobStatus.Failed);
+        Instant now = Instant.now();
+        job.setUpdatedAt(now);
+        job.setCompletedAt(now);
+    }
+
+    private void purgeExpiredJobs() {
+        Instant expiredBefore = Instant.now().minus(this.properties.getRetention());
+        this.jobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt().isBefore(expiredBefore));
+
+        int overflow = this.jobs.size() - this.properties.getMaxRetainedJobs();
+        if (overflow > 0) {
+            this.jobs.values().stream()
+                    .filter(job -> job.getCompletedAt() != null)
+                    .sorted(Comparator.comparing(DepositJob::getCompletedAt))
+                    .limit(overflow)
+                    .toList()
+                    .forEach(job -> this.jobs.remove(job.getId()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.executorService.shutdownNow();
+    }
+}
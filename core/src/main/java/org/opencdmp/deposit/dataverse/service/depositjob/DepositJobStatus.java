@@ -0,0 +1,8 @@
+package org.opencdmp.deposit.dataverse.service.depositjob;
+
+public enum DepositJobStatus {
+    Pending,
+    Running,
+    Completed,
+    Failed
+}
@@ -0,0 +1,109 @@
+package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
+
+import org.opencdmp.commonmodels.models.descriptiotemplate.*;
+import org.opencdmp.commonmodels.models.descriptiotemplate.fielddata.RadioBoxDataModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.fielddata.SelectDataModel;
+
+import java.util.*;
+import java.util.function.Function;
+
+public class DescriptionTemplateCompiler {
+
+    private final DescriptionTemplateModel template;
+
+    private final List<DescriptionTemplateIndex.SemanticField> semanticFields = new ArrayList<>();
+
+    private final Map<String, List<FieldModel>> fieldsBySemantic = new HashMap<>();
+
+    private final Map<FieldModel, Integer> fieldRanks = new IdentityHashMap<>();
+
+    private final Map<String, FieldModel> fieldsById = new HashMap<>();
+
+    private final Map<String, FieldSetModel> fieldSetsByFieldId = new HashMap<>();
+
+    private final Map<FieldSetModel, Map<String, FieldModel>> fieldsByFieldSetSemantic = new IdentityHashMap<>();
+
+    private final Map<FieldModel, FieldOptionsIndex> fieldOptions = new IdentityHashMap<>();
+
+    public DescriptionTemplateCompiler(DescriptionTemplateModel template) {
+        this.template = template;
+    }
+
+    public DescriptionTemplateIndex compile() {
+        if (this.template != null && this.template.getDefinition() != null) {
+            List<FieldModel> fieldModels = this.template.getDefinition().getAllField();
+            if (fieldModels != null) {
+                for (FieldModel fieldModel : fieldModels) {
+                    this.fieldRanks.putIfAbsent(fieldModel, this.fieldRanks.size());
+                    this.fieldsById.putIfAbsent(fieldModel.getId(), fieldModel);
+                    FieldOptionsIndex options = this.compileOptions(fieldModel);
+                    if (options != null) this.fieldOptions.put(fieldModel, options);
+                    if (fieldModel.getSemantics() == null) continue;
+                    List<String> semantics = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(fieldModel.getSemantics())));
+                    for (String semantic : semantics) {
+                        this.fieldsBySemantic.computeIfAbsent(semantic, x -> new ArrayList<>()).add(fieldModel);
+                    }
+                    if (!semantics.isEmpty()) this.semanticFields.add(new DescriptionTemplateIndex.SemanticField(fieldModel, semantics));
+                }
+            }
+            if (this.template.getDefinition().getPages() != null) {
+                for (PageModel pageModel : this.sorted(this.template.getDefinition().getPages(), PageModel::getOrdinal)) {
+                    if (pageModel == null || pageModel.getSections() == null) continue;
+                    for (SectionModel sectionModel : this.sorted(pageModel.getSections(), SectionModel::getOrdinal)) this.compile(sectionModel);
+                }
+            }
+        }
+
+        return new DescriptionTemplateIndex(this.template, this.semanticFields, this.fieldsBySemantic, this.fieldRanks, this.fieldsById, this.fieldSetsByFieldId, this.fieldsByFieldSetSemantic, this.fieldOptions);
+    }
+
+    private void compile(SectionModel sectionModel) {
+        if (sectionModel == null) return;
+        if (sectionModel.getSections() != null) {
+            for (SectionModel innerSectionModel : this.sorted(sectionModel.getSections(), SectionModel::getOrdinal)) this.compile(innerSectionModel);
+        }
+        if (sectionModel.getFieldSets() != null) {
+            for (FieldSetModel fieldSetModel : this.sorted(sectionModel.getFieldSets(), FieldSetModel::getOrdinal)) this.compile(fieldSetModel);
+        }
+    }
+
+    private void compile(FieldSetModel fieldSetModel) {
+        if (fieldSetModel == null || fieldSetModel.getFields() == null) return;
+        for (FieldModel fieldModel : this.sorted(fieldSetModel.getFields(), FieldModel::getOrdinal)) {
+            this.fieldSetsByFieldId.putIfAbsent(fieldModel.getId(), fieldSetModel);
+        }
+
+        Map<String, FieldModel> fields = new HashMap<>();
+        List<FieldModel> fieldModels = fieldSetModel.getAllField();
+        if (fieldModels != null) {
+            for (FieldModel fieldModel : fieldModels) {
+                if (fieldModel.getSemantics() == null) continue;
+                for (String semantic : fieldModel.getSemantics()) fields.putIfAbsent(semantic, fieldModel);
+            }
+        }
+        this.fieldsByFieldSetSemantic.putIfAbsent(fieldSetModel, fields);
+    }
+
+    private FieldOptionsIndex compileOptions(FieldModel fieldModel) {
+        List<String> values = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        if (fieldModel.getData() instanceof SelectDataModel selectDataModel && selectDataModel.getOptions() != null) {
+            for (SelectDataModel.OptionModel option : selectDataModel.getOptions()) {
+                values.add(option.getValue());
+                labels.add(option.getLabel());
+            }
+        } else if (fieldModel.getData() instanceof RadioBoxDataModel radioBoxModel && radioBoxModel.getOptions() != null) {
+            for (RadioBoxDataModel.RadioBoxOptionModel option : radioBoxModel.getOptions()) {
+                values.add(option.getValue());
+                labels.add(option.getLabel());
+            }
+        }
+        return values.isEmpty() ? null : new FieldOptionsIndex(values, labels);
+    }
+
+    private <T> List<T> sorted(List<T> items, Function<T, Integer> ordinal) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(ordinal));
+        return sorted;
+    }
+}
@@ -0,0 +1,85 @@
+package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
+
+import org.opencdmp.commonmodels.models.descriptiotemplate.DescriptionTemplateModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.FieldModel;
+import org.opencdmp.commonmodels.models.descriptiotemplate.FieldSetModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class DescriptionTemplateIndex {
+
+    private final DescriptionTemplateModel template;
+
+    private final List<SemanticField> semanticFields;
+
+    private final Map<String, List<FieldModel>> fieldsBySemantic;
+
+    private final Map<FieldModel, Integer> fieldRanks;
+
+    private final Map<String, FieldModel> fieldsById;
+
+    private final Map<String, FieldSetModel> fieldSetsByFieldId;
+
+    private final Map<FieldSetModel, Map<String, FieldModel>> fieldsByFieldSetSemantic;
+
+    private final Map<FieldModel, FieldOptionsIndex> fieldOptions;
+
+    private final Map<List<String>, List<FieldSetModel>> fieldSetsBySemantics;
+
+    public DescriptionTemplateIndex(DescriptionTemplateModel template, List<SemanticField> semanticFields, Map<String, List<FieldModel>> fieldsBySemantic, Map<FieldModel, Integer> fieldRanks,
+                                    Map<String, FieldModel> fieldsById, Map<String, FieldSetModel> fieldSetsByFieldId, Map<FieldSetModel, Map<String, FieldModel>> fieldsByFieldSetSemantic,
+                                    Map<FieldModel, FieldOptionsIndex> fieldOptions) {
+        this.template = template;
+        this.semanticFields = semanticFields;
+        this.fieldsBySemantic = fieldsBySemantic;
+        this.fieldRanks = fieldRanks;
+        this.fieldsById = fieldsById;
+        this.fieldSetsByFieldId = fieldSetsByFieldId;
+        this.fieldsByFieldSetSemantic = fieldsByFieldSetSemantic;
+        this.fieldOptions = fieldOptions;
+        this.fieldSetsBySemantics = new ConcurrentHashMap<>();
+    }
+
+    public DescriptionTemplateModel getTemplate() {
+        return template;
+    }
+
+    public List<SemanticField> getSemanticFields() {
+        return semanticFields;
+    }
+
+    public List<FieldModel> getFieldsBySemantic(String semantic) {
+        return this.fieldsBySemantic.getOrDefault(semantic, List.of());
+    }
+
+    public int getFieldRank(FieldModel fieldModel) {
+        return this.fieldRanks.getOrDefault(fieldModel, Integer.MAX_VALUE);
+    }
+
+    public FieldModel getFieldById(String id) {
+        return this.fieldsById.get(id);
+    }
+
+    public FieldSetModel getFieldSetByFieldId(String fieldId) {
+        return this.fieldSetsByFieldId.get(fieldId);
+    }
+
+    public FieldModel getFieldBySemantic(FieldSetModel fieldSetModel, String semantic) {
+        Map<String, FieldModel> fields = this.fieldsByFieldSetSemantic.get(fieldSetModel);
+        return fields != null ? fields.get(semantic) : null;
+    }
+
+    public FieldOptionsIndex getFieldOptions(FieldModel fieldModel) {
+        return this.fieldOptions.get(fieldModel);
+    }
+
+    public List<FieldSetModel> getFieldSetsBySemantics(List<String> semantics, Function<List<String>, List<FieldSetModel>> search) {
+        return this.fieldSetsBySemantics.computeIfAbsent(List.copyOf(semantics), search);
+    }
+
+    public record SemanticField(FieldModel field, List<String> semantics) {
+    }
+}
@@ -0,0 +1,27 @@
+package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.description-template-index")
+public class DescriptionTemplateIndexCacheProperties {
+
+    private String name;
+
+    private String keyPattern;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKeyPattern() {
+        return keyPattern;
+    }
+
+    public void setKeyPattern(String keyPattern) {
+        this.keyPattern = keyPattern;
+    }
+}
@@ -0,0 +1,43 @@
+package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
+
+import java.util.*;
+
+public class FieldOptionsIndex {
+
+    private final List<String> values;
+
+    private final List<String> labels;
+
+    private final Map<String, BitSet> optionsByValueOrLabel;
+
+    public FieldOptionsIndex(List<String> values, List<String> labels) {
+        this.values = values;
+        this.labels = labels;
+        this.optionsByValueOrLabel = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            this.optionsByValueOrLabel.computeIfAbsent(values.get(i), x -> new BitSet()).set(i);
+            this.optionsByValueOrLabel.computeIfAbsent(labels.get(i), x -> new BitSet()).set(i);
+        }
+    }
+
+    public List<String> getMatchingLabels(List<String> textListValue) {
+        BitSet matches = this.findMatches(textListValue);
+        List<String> matchingLabels = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) matchingLabels.add(this.labels.get(i));
+        return matchingLabels;
+    }
+
+    public String getFirstMatchingValue(List<String> textListValue) {
+        BitSet matches = this.findMatches(textListValue);
+        return matches.isEmpty() ? null : this.values.get(matches.nextSetBit(0));
+    }
+
+    private BitSet findMatches(List<String> textListValue) {
+        BitSet matches = new BitSet(this.values.size());
+        for (String text : textListValue) {
+            BitSet options = this.optionsByValueOrLabel.get(text);
+            if (options != null) matches.or(options);
+        }
+        return matches;
+    }
+}
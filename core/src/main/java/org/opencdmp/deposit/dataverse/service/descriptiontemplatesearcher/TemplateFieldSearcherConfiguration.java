@@ -0,0 +1,9 @@
+package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DescriptionTemplateIndexCacheProperties.class})
+public class TemplateFieldSearcherConfiguration {
+}
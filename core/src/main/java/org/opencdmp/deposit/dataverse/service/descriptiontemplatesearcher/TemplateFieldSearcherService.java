@@ -7,9 +7,15 @@ import org.opencdmp.commonmodels.models.descriptiotemplate.FieldSetModel;
 import java.util.List;
 
 public interface TemplateFieldSearcherService {
-	FieldModel findFieldBySemantic(FieldSetModel fieldSetModel, String semantic);
+	DescriptionTemplateIndex buildIndex(DescriptionTemplateModel template);
 
-	List<FieldSetModel> searchFieldSetsBySemantics(DescriptionTemplateModel template, List<String> Semantics);
+	FieldModel findFieldBySemantic(DescriptionTemplateIndex index, FieldSetModel fieldSetModel, String semantic);
 
-	List<FieldModel> searchFieldsBySemantics(DescriptionTemplateModel template, String value);
+	FieldModel findFieldById(DescriptionTemplateIndex index, String id);
+
+	FieldOptionsIndex findFieldOptions(DescriptionTemplateIndex index, FieldModel fieldModel);
+
+	List<FieldSetModel> searchFieldSetsBySemantics(DescriptionTemplateIndex index, List<String> Semantics);
+
+	List<FieldModel> searchFieldsBySemantics(DescriptionTemplateIndex index, String value);
 }
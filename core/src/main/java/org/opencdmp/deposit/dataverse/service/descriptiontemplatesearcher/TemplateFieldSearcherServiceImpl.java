@@ -1,89 +1,92 @@
 package org.opencdmp.deposit.dataverse.service.descriptiontemplatesearcher;
 
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
 import org.opencdmp.commonmodels.models.descriptiotemplate.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
 
 @Component
 public class TemplateFieldSearcherServiceImpl implements TemplateFieldSearcherService {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(TemplateFieldSearcherServiceImpl.class));
+
+    private final Cache indexCache;
+
+    private final DescriptionTemplateIndexCacheProperties cacheProperties;
+
+    @Autowired
+    public TemplateFieldSearcherServiceImpl(ObjectProvider<CacheManager> cacheManager, DescriptionTemplateIndexCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+        CacheManager manager = cacheManager.getIfAvailable();
+        this.indexCache = manager != null && cacheProperties.getName() != null ? manager.getCache(cacheProperties.getName()) : null;
+    }
 
     @Override
-    public FieldModel findFieldBySemantic(FieldSetModel fieldSetModel, String semantic){
-        if (fieldSetModel == null || fieldSetModel.getFields() == null) return null;
-        List<FieldModel> fieldModels = fieldSetModel.getAllField();
-        if (fieldModels == null) return null;
-        return fieldModels.stream().filter(x-> x.getSemantics() != null && x.getSemantics().contains(semantic)).findFirst().orElse(null);
+    public DescriptionTemplateIndex buildIndex(DescriptionTemplateModel template) {
+        if (this.indexCache == null || template == null || template.getId() == null) return new DescriptionTemplateCompiler(template).compile();
+
+        String key = this.keyOf(template);
+        DescriptionTemplateIndex index = this.indexCache.get(key, DescriptionTemplateIndex.class);
+        if (index != null) return index;
+
+        index = new DescriptionTemplateCompiler(template).compile();
+        this.indexCache.put(key, index);
+        logger.debug(new MapLogEntry("Compiled description template").And("template", template.getId()).And("version", template.getVersion()));
+        return index;
+    }
+
+    private String keyOf(DescriptionTemplateModel template) {
+        String keyPattern = this.cacheProperties.getKeyPattern() != null ? this.cacheProperties.getKeyPattern() : "$template$_$version$";
+        return keyPattern.replace("$template$", template.getId().toString()).replace("$version$", String.valueOf(template.getVersion()));
     }
+
     @Override
-    public List<FieldSetModel> searchFieldSetsBySemantics(DescriptionTemplateModel template, List<String> Semantics){
-        if (template == null || template.getDefinition() == null) return new ArrayList<>();
-        List<FieldModel> fieldModels = template.getDefinition().getAllField();
-        if (fieldModels == null) return new ArrayList<>();
-        fieldModels = fieldModels.stream().filter(x-> x.getSemantics() != null && x.getSemantics().stream().anyMatch(Semantics::contains)).toList();
-        List<FieldSetModel> response = new ArrayList<>();
-        HashSet<String> fieldSetIds = new HashSet<>();
-        for (FieldModel fieldModel : fieldModels){
-            FieldSetModel fieldSetModel = this.findFieldSet(template, fieldModel);
-            if (fieldSetIds.contains(fieldSetModel.getId())) continue;
-            fieldSetIds.add(fieldSetModel.getId());
-            response.add(fieldSetModel);
-        }
-        return response;
+    public FieldModel findFieldBySemantic(DescriptionTemplateIndex index, FieldSetModel fieldSetModel, String semantic){
+        if (index == null || fieldSetModel == null) return null;
+        return index.getFieldBySemantic(fieldSetModel, semantic);
     }
 
-    private FieldSetModel findFieldSet(DescriptionTemplateModel template, FieldModel fieldModel){
-        if (template == null || template.getDefinition() == null || template.getDefinition().getPages() == null) return null;
-        for (PageModel pageModel : template.getDefinition().getPages().stream().sorted(Comparator.comparing(PageModel::getOrdinal)).toList()){
-            FieldSetModel fieldSet = this.findFieldSet(pageModel, fieldModel);
-            if (fieldSet != null) return fieldSet;
-        }
-        return null;
+    @Override
+    public FieldOptionsIndex findFieldOptions(DescriptionTemplateIndex index, FieldModel fieldModel) {
+        if (index == null || fieldModel == null) return null;
+        return index.getFieldOptions(fieldModel);
     }
-    private FieldSetModel findFieldSet(PageModel pageModel, FieldModel fieldModel){
-        if (pageModel == null || pageModel.getSections() == null) return null;
-        for (SectionModel sectionModel : pageModel.getSections().stream().sorted(Comparator.comparing(SectionModel::getOrdinal)).toList()){
-            FieldSetModel fieldSet = this.findFieldSet(sectionModel, fieldModel);
-            if (fieldSet != null) return fieldSet;
-        }
-        return null;
+
+    @Override
+    public FieldModel findFieldById(DescriptionTemplateIndex index, String id) {
+        if (index == null) return null;
+        return index.getFieldById(id);
     }
 
-    private FieldSetModel findFieldSet(SectionModel sectionModel, FieldModel fieldModel){
-        if (sectionModel == null) return null;
-        if (sectionModel.getSections() != null) {
-            for (SectionModel innerSectionModel : sectionModel.getSections().stream().sorted(Comparator.comparing(SectionModel::getOrdinal)).toList()) {
-                FieldSetModel fieldSet = this.findFieldSet(innerSectionModel, fieldModel);
-                if (fieldSet != null) return fieldSet;
+    @Override
+    public List<FieldSetModel> searchFieldSetsBySemantics(DescriptionTemplateIndex index, List<String> Semantics){
+        if (index == null) return new ArrayList<>();
+        return index.getFieldSetsBySemantics(Semantics, semantics -> {
+            TreeMap<Integer, FieldModel> fieldModels = new TreeMap<>();
+            for (String semantic : semantics) {
+                for (FieldModel fieldModel : index.getFieldsBySemantic(semantic)) fieldModels.put(index.getFieldRank(fieldModel), fieldModel);
             }
-        }
-        if (sectionModel.getFieldSets() != null) {
-            for (FieldSetModel fieldSetModel : sectionModel.getFieldSets().stream().sorted(Comparator.comparing(FieldSetModel::getOrdinal)).toList()) {
-                FieldSetModel fieldSet = this.findFieldSet(fieldSetModel, fieldModel);
-                if (fieldSet != null) return fieldSet;
-
+            List<FieldSetModel> response = new ArrayList<>();
+            HashSet<String> fieldSetIds = new HashSet<>();
+            for (FieldModel fieldModel : fieldModels.values()){
+                FieldSetModel fieldSetModel = index.getFieldSetByFieldId(fieldModel.getId());
+                if (fieldSetIds.contains(fieldSetModel.getId())) continue;
+                fieldSetIds.add(fieldSetModel.getId());
+                response.add(fieldSetModel);
             }
-        }
-        return null;
+            return List.copyOf(response);
+        });
     }
 
-    private FieldSetModel findFieldSet(FieldSetModel fieldSetModel, FieldModel fieldModel){
-        if (fieldSetModel == null || fieldSetModel.getFields() == null) return null;
-        for (FieldModel currentFieldModel : fieldSetModel.getFields().stream().sorted(Comparator.comparing(FieldModel::getOrdinal)).toList()){
-            if (currentFieldModel.getId().equals(fieldModel.getId())) return fieldSetModel;
-        }
-        return null;
-    }
-    
     @Override
-    public List<FieldModel> searchFieldsBySemantics(DescriptionTemplateModel template, String value) {
-        if (template == null || template.getDefinition() == null) return new ArrayList<>();
-        List<FieldModel> fieldModels = template.getDefinition().getAllField();
-        if (fieldModels == null) return  new ArrayList<>();
-        return fieldModels.stream().filter(x-> x.getSemantics() != null && x.getSemantics().contains(value)).toList();
-        
+    public List<FieldModel> searchFieldsBySemantics(DescriptionTemplateIndex index, String value) {
+        if (index == null) return new ArrayList<>();
+        return index.getFieldsBySemantic(value);
     }
 }
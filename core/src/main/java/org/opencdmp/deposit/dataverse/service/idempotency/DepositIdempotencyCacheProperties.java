@@ -0,0 +1,49 @@
+package org.opencdmp.deposit.dataverse.service.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.deposit-by-key")
+public class DepositIdempotencyCacheProperties {
+
+    private boolean enabled = true;
+
+    private String name;
+
+    private String keyPattern;
+
+    private Duration joinTimeout = Duration.ofMinutes(20);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKeyPattern() {
+        return keyPattern;
+    }
+
+    public void setKeyPattern(String keyPattern) {
+        this.keyPattern = keyPattern;
+    }
+
+    public Duration getJoinTimeout() {
+        return joinTimeout;
+    }
+
+    public void setJoinTimeout(Duration joinTimeout) {
+        this.joinTimeout = joinTimeout;
+    }
+}
@@ -0,0 +1,9 @@
+package org.opencdmp.deposit.dataverse.service.idempotency;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DepositIdempotencyCacheProperties.class})
+public class DepositIdempotencyConfiguration {
+}
@@ -0,0 +1,13 @@
+package org.opencdmp.deposit.dataverse.service.idempotency;
+
+import org.opencdmp.deposit.dataverse.service.dataverse.DepositProgressListener;
+
+public interface DepositIdempotencyService {
+
+    String execute(String key, DepositProgressListener progressListener, Deposit deposit) throws Exception;
+
+    @FunctionalInterface
+    interface Deposit {
+        String deposit(DepositProgressListener progressListener) throws Exception;
+    }
+}
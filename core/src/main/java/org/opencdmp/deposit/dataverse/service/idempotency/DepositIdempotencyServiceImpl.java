@@ -0,0 +1,144 @@
+package org.opencdmp.deposit.dataverse.service.idempotency;
+
+import gr.cite.tools.exception.MyApplicationException;
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.opencdmp.deposit.dataverse.service.dataverse.DepositProgressListener;
+import org.opencdmp.deposit.dataverse.service.dataverse.DepositStage;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DepositIdempotencyServiceImpl implements DepositIdempotencyService {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DepositIdempotencyServiceImpl.class));
+
+    public static final String DEDUPLICATION_COUNTER = "dataverse.deposit.deduplication";
+
+    private final DepositIdempotencyCacheProperties cacheProperties;
+    private final Cache depositCache;
+    private final ConcurrentHashMap<String, InFlightDeposit> inFlight;
+
+    private final Counter cachedCounter;
+    private final Counter joinedCounter;
+    private final Counter executedCounter;
+
+    @Autowired
+    public DepositIdempotencyServiceImpl(ObjectProvider<CacheManager> cacheManager, DepositIdempotencyCacheProperties cacheProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache depositCache = manager != null && cacheProperties.getName() != null ? manager.getCache(cacheProperties.getName()) : null;
+        this.depositCache = depositCache != null ? depositCache : new ConcurrentMapCache("depositByKey");
+        this.inFlight = new ConcurrentHashMap<>();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.cachedCounter = Counter.builder(DEDUPLICATION_COUNTER).tag("result", "cached").register(registry);
+        this.joinedCounter = Counter.builder(DEDUPLICATION_COUNTER).tag("result", "joined").register(registry);
+        this.executedCounter = Counter.builder(DEDUPLICATION_COUNTER).tag("result", "executed").register(registry);
+    }
+
+    @Override
+    public String execute(String key, DepositProgressListener progressListener, Deposit deposit) throws Exception {
+        if (!this.cacheProperties.isEnabled() || key == null) return deposit.deposit(progressListener);
+
+        String cacheKey = this.cacheKeyOf(key);
+        String doi = this.depositCache.get(cacheKey, String.class);
+        if (doi != null) {
+            this.cachedCounter.increment();
+            logger.debug(new MapLogEntry("Returning previously deposited dataset").And("key", key).And("doi", doi));
+            return doi;
+        }
+
+        InFlightDeposit deposited = new InFlightDeposit(progressListener);
+        InFlightDeposit running = this.inFlight.putIfAbsent(key, deposited);
+        if (running != null) {
+            this.joinedCounter.increment();
+            logger.debug(new MapLogEntry("Joining in-flight deposit").And("key", key));
+            return this.join(key, running, progressListener);
+        }
+
+        try {
+            doi = this.depositCache.get(cacheKey, String.class);
+            if (doi != null) {
+                this.cachedCounter.increment();
+            } else {
+                this.executedCounter.increment();
+                doi = deposit.deposit(deposited);
+                if (doi != null) this.depositCache.put(cacheKey, doi);
+            }
+            deposited.result.complete(doi);
+            return doi;
+        } catch (Exception | Error e) {
+            deposited.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, deposited);
+        }
+    }
+
+    private String join(String key, InFlightDeposit running, DepositProgressListener progressListener) throws Exception {
+        Duration joinTimeout = this.cacheProperties.getJoinTimeout();
+        running.addListener(progressListener);
+        try {
+            return joinTimeout != null && joinTimeout.isPositive() ? running.result.get(joinTimeout.toMillis(), TimeUnit.MILLISECONDS) : running.result.get();
+        } catch (TimeoutException e) {
+            logger.warn(new MapLogEntry("Timed out waiting for in-flight deposit").And("key", key).And("joinTimeout", joinTimeout));
+            throw new MyApplicationException("An identical deposit is still in progress after " + joinTimeout + ", try again later");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        } finally {
+            running.removeListener(progressListener);
+        }
+    }
+
+    private String cacheKeyOf(String key) {
+        String keyPattern = this.cacheProperties.getKeyPattern() != null ? this.cacheProperties.getKeyPattern() : "$key$";
+        return keyPattern.replace("$key$", key);
+    }
+
+    private static class InFlightDeposit implements DepositProgressListener {
+
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final List<DepositProgressListener> listeners = new ArrayList<>();
+        private DepositStage stage;
+        private int progress;
+
+        private InFlightDeposit(DepositProgressListener progressListener) {
+            this.listeners.add(progressListener);
+        }
+
+        @Override
+        public synchronized void onProgress(DepositStage stage, int progress) {
+            this.stage = stage;
+            this.progress = progress;
+            for (DepositProgressListener listener : this.listeners) listener.onProgress(stage, progress);
+        }
+
+        private synchronized void addListener(DepositProgressListener progressListener) {
+            this.listeners.add(progressListener);
+            if (this.stage != null) progressListener.onProgress(this.stage, this.progress);
+        }
+
+        private synchronized void removeListener(DepositProgressListener progressListener) {
+            this.listeners.remove(progressListener);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.opencdmp.deposit.dataverse.service.journal;
+
+public interface DepositJournal {
+
+    DepositJournalEntry open(String key);
+}
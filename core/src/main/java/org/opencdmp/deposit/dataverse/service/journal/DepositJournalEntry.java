@@ -0,0 +1,58 @@
+package org.opencdmp.deposit.dataverse.service.journal;
+
+public interface DepositJournalEntry {
+
+    DepositJournalEntry NONE = new DepositJournalEntry() {
+        @Override
+        public String getPersistentId() {
+            return null;
+        }
+
+        @Override
+        public String getCompletedPersistentId() {
+            return null;
+        }
+
+        @Override
+        public boolean isPublishRequesting() {
+            return false;
+        }
+
+        @Override
+        public boolean isPublishRequested() {
+            return false;
+        }
+
+        @Override
+        public void recordCreated(String persistentId) {
+        }
+
+        @Override
+        public void recordPublishRequesting() {
+        }
+
+        @Override
+        public void recordPublishRequested() {
+        }
+
+        @Override
+        public void complete(String persistentId) {
+        }
+    };
+
+    String getPersistentId();
+
+    String getCompletedPersistentId();
+
+    boolean isPublishRequesting();
+
+    boolean isPublishRequested();
+
+    void recordCreated(String persistentId);
+
+    void recordPublishRequesting();
+
+    void recordPublishRequested();
+
+    void complete(String persistentId);
+}
@@ -0,0 +1,225 @@
+package org.opencdmp.deposit.dataverse.service.journal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Component
+public class DepositJournalImpl implements DepositJournal {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DepositJournalImpl.class));
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final DepositJournalProperties properties;
+    private final Path directory;
+
+    @Autowired
+    public DepositJournalImpl(DepositJournalProperties properties) {
+        this.properties = properties;
+        this.directory = properties.isEnabled() ? this.initialize(properties.getPath()) : null;
+    }
+
+    private Path initialize(String path) {
+        if (path == null || path.isBlank() || path.contains("${")) {
+            logger.error("Deposit journal disabled, deposit.journal.path is not set (" + path + "), deposits will not be resumable");
+            return null;
+        }
+        Path directory = Path.of(path).toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            Instant expiredBefore = Instant.now().minus(this.properties.getRetention());
+            int retained = 0, expired = 0;
+            try (Stream<Path> journals = Files.list(directory)) {
+                for (Path journal : journals.filter(x -> x.getFileName().toString().endsWith(JOURNAL_EXTENSION)).toList()) {
+                    if (Files.getLastModifiedTime(journal).toInstant().isBefore(expiredBefore)) {
+                        Files.deleteIfExists(journal);
+                        expired++;
+                    } else {
+                        retained++;
+                    }
+                }
+            }
+            logger.info(new MapLogEntry("Deposit journal ready").And("path", directory).And("retained", retained).And("expired", expired));
+            return directory;
+        } catch (IOException e) {
+            logger.error("Deposit journal disabled, cannot use " + directory + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public DepositJournalEntry open(String key) {
+        if (this.directory == null || key == null) return DepositJournalEntry.NONE;
+
+        FileDepositJournalEntry entry = new FileDepositJournalEntry(this.directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + JOURNAL_EXTENSION));
+        entry.replay();
+        return entry;
+    }
+
+    private class FileDepositJournalEntry implements DepositJournalEntry {
+
+        private final Path file;
+        private final ReentrantLock lock = new ReentrantLock();
+        private String persistentId;
+        private String completedPersistentId;
+        private boolean publishRequesting;
+        private boolean publishRequested;
+
+        private FileDepositJournalEntry(Path file) {
+            this.file = file;
+        }
+
+        private void replay() {
+            if (!Files.exists(this.file)) return;
+            try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    JsonNode record;
+                    try {
+                        record = objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        logger.warn(new MapLogEntry("Ignoring incomplete deposit journal record").And("journal", this.file));
+                        break;
+                    }
+                    DepositJournalStage stage = this.stageOf(record.path("stage").asText());
+                    if (stage != null) this.apply(stage, record.path("value").asText(null));
+                }
+            } catch (IOException e) {
+                logger.error("Cannot read deposit journal " + this.file + ", starting over: " + e.getMessage(), e);
+                this.persistentId = null;
+                this.completedPersistentId = null;
+                this.publishRequesting = false;
+                this.publishRequested = false;
+            }
+        }
+
+        private DepositJournalStage stageOf(String name) {
+            for (DepositJournalStage stage : DepositJournalStage.values()) {
+                if (stage.name().equals(name)) return stage;
+            }
+            logger.warn(new MapLogEntry("Ignoring unknown deposit journal stage").And("journal", this.file).And("stage", name));
+            return null;
+        }
+
+        private void apply(DepositJournalStage stage, String value) {
+            switch (stage) {
+                case Created -> this.persistentId = value;
+                case PublishRequesting -> this.publishRequesting = true;
+                case PublishRequested -> this.publishRequested = true;
+                case Completed -> this.completedPersistentId = value;
+            }
+        }
+
+        private void append(DepositJournalStage stage, String value) {
+            this.lock.lock();
+            try {
+                this.write(stage, value);
+                this.apply(stage, value);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void write(DepositJournalStage stage, String value) {
+            ObjectNode record = objectMapper.createObjectNode();
+            record.put("stage", stage.name());
+            if (value != null) record.put("value", value);
+            record.put("at", Instant.now().toString());
+            boolean created = !Files.exists(this.file);
+            try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) channel.write(buffer);
+                if (properties.isSync()) channel.force(false);
+            } catch (IOException e) {
+                logger.error("Cannot write deposit journal " + this.file + ", the deposit will not be resumable: " + e.getMessage(), e);
+                return;
+            }
+            if (created && properties.isSync()) this.syncDirectory();
+        }
+
+        private void syncDirectory() {
+            try (FileChannel channel = FileChannel.open(this.file.getParent(), StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException e) {
+                logger.warn(new MapLogEntry("Cannot sync deposit journal directory").And("journal", this.file).And("error", e.getMessage()));
+            }
+        }
+
+        @Override
+        public String getPersistentId() {
+            this.lock.lock();
+            try {
+                return this.persistentId;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public String getCompletedPersistentId() {
+            this.lock.lock();
+            try {
+                return this.completedPersistentId;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isPublishRequesting() {
+            this.lock.lock();
+            try {
+                return this.publishRequesting;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isPublishRequested() {
+            this.lock.lock();
+            try {
+                return this.publishRequested;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public void recordCreated(String persistentId) {
+            this.append(DepositJournalStage.Created, persistentId);
+        }
+
+        @Override
+        public void recordPublishRequesting() {
+            this.append(DepositJournalStage.PublishRequesting, null);
+        }
+
+        @Override
+        public void recordPublishRequested() {
+            this.append(DepositJournalStage.PublishRequested, null);
+        }
+
+        @Override
+        public void complete(String persistentId) {
+            this.append(DepositJournalStage.Completed, persistentId);
+        }
+    }
+}
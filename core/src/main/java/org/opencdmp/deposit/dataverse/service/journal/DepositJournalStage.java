@@ -0,0 +1,8 @@
+package org.opencdmp.deposit.dataverse.service.journal;
+
+public enum DepositJournalStage {
+    Created,
+    PublishRequesting,
+    PublishRequested,
+    Completed
+}
@@ -0,0 +1,34 @@
+package org.opencdmp.deposit.dataverse.service.metrics;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+public interface DepositMetrics {
+
+    String DEPOSIT_TYPE_NEW = "new";
+    String DEPOSIT_TYPE_VERSION = "version";
+
+    String STAGE_BUILD = "build";
+    String STAGE_CREATE = "create";
+    String STAGE_DRAFT = "draft";
+    String STAGE_DELETE = "delete";
+    String STAGE_UPLOAD = "upload";
+    String STAGE_REPLACE = "replace";
+    String STAGE_PUBLISH = "publish";
+    String STAGE_LOCKS = "locks";
+    String STAGE_RELEASE = "release";
+
+    <T> T recordDeposit(String type, DepositCallable<T> deposit) throws Exception;
+
+    <T> T recordStage(String stage, Supplier<T> action);
+
+    <T> Mono<T> recordStage(String stage, Mono<T> action);
+
+    <T> Mono<T> recordTransfer(String stage, long bytes, Mono<T> action);
+
+    @FunctionalInterface
+    interface DepositCallable<T> {
+        T call() throws Exception;
+    }
+}
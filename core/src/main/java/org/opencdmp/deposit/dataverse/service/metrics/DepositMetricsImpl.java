@@ -0,0 +1,121 @@
+package org.opencdmp.deposit.dataverse.service.metrics;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Supplier;
+
+@Component
+public class DepositMetricsImpl implements DepositMetrics {
+
+    public static final String DEPOSIT_TIMER = "dataverse.deposit";
+    public static final String STAGE_TIMER = "dataverse.deposit.stage";
+    public static final String TRANSFER_SUMMARY = "dataverse.deposit.transfer";
+    public static final String TRANSFER_BYTES_COUNTER = "dataverse.deposit.transfer.bytes";
+
+    private static final String TAG_TYPE = "type";
+    private static final String TAG_STAGE = "stage";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String TAG_EXCEPTION = "exception";
+
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
+    private static final String OUTCOME_REDIRECTION = "REDIRECTION";
+    private static final String OUTCOME_CLIENT_ERROR = "CLIENT_ERROR";
+    private static final String OUTCOME_SERVER_ERROR = "SERVER_ERROR";
+    private static final String OUTCOME_CANCELLED = "CANCELLED";
+    private static final String OUTCOME_UNKNOWN = "UNKNOWN";
+    private static final String EXCEPTION_NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DepositMetricsImpl(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public <T> T recordDeposit(String type, DepositCallable<T> deposit) throws Exception {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        try {
+            T result = deposit.call();
+            sample.stop(this.timer(DEPOSIT_TIMER, Tags.of(TAG_TYPE, type), null));
+            return result;
+        } catch (Exception | Error e) {
+            sample.stop(this.timer(DEPOSIT_TIMER, Tags.of(TAG_TYPE, type), e));
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T recordStage(String stage, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        try {
+            T result = action.get();
+            sample.stop(this.timer(STAGE_TIMER, Tags.of(TAG_STAGE, stage), null));
+            return result;
+        } catch (RuntimeException | Error e) {
+            sample.stop(this.timer(STAGE_TIMER, Tags.of(TAG_STAGE, stage), e));
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Mono<T> recordStage(String stage, Mono<T> action) {
+        return this.record(stage, action, null);
+    }
+
+    @Override
+    public <T> Mono<T> recordTransfer(String stage, long bytes, Mono<T> action) {
+        return this.record(stage, action, bytes);
+    }
+
+    private <T> Mono<T> record(String stage, Mono<T> action, Long bytes) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(this.meterRegistry);
+            return action
+                    .doOnSuccess(result -> this.stop(sample, stage, bytes, OUTCOME_SUCCESS, null))
+                    .doOnError(e -> this.stop(sample, stage, bytes, outcome(e), e))
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) this.stop(sample, stage, bytes, OUTCOME_CANCELLED, null);
+                    });
+        });
+    }
+
+    private void stop(Timer.Sample sample, String stage, Long bytes, String outcome, Throwable e) {
+        Tags tags = Tags.of(TAG_STAGE, stage, TAG_OUTCOME, outcome);
+        sample.stop(Timer.builder(STAGE_TIMER).tags(tags).tag(TAG_EXCEPTION, exception(e)).register(this.meterRegistry));
+        if (bytes == null || bytes < 0) return;
+
+        DistributionSummary.builder(TRANSFER_SUMMARY).baseUnit(BaseUnits.BYTES).tags(tags).register(this.meterRegistry).record(bytes);
+        if (OUTCOME_SUCCESS.equals(outcome)) Counter.builder(TRANSFER_BYTES_COUNTER).baseUnit(BaseUnits.BYTES).tag(TAG_STAGE, stage).register(this.meterRegistry).increment(bytes);
+    }
+
+    private Timer timer(String name, Tags tags, Throwable e) {
+        return Timer.builder(name).tags(tags).tag(TAG_OUTCOME, e == null ? OUTCOME_SUCCESS : outcome(e)).tag(TAG_EXCEPTION, exception(e)).register(this.meterRegistry);
+    }
+
+    private static String outcome(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof WebClientResponseException responseException) {
+                return switch (responseException.getStatusCode().value() / 100) {
+                    case 2 -> OUTCOME_SUCCESS;
+                    case 3 -> OUTCOME_REDIRECTION;
+                    case 4 -> OUTCOME_CLIENT_ERROR;
+                    case 5 -> OUTCOME_SERVER_ERROR;
+                    default -> OUTCOME_UNKNOWN;
+                };
+            }
+        }
+        return OUTCOME_UNKNOWN;
+    }
+
+    private static String exception(Throwable e) {
+        return e == null ? EXCEPTION_NONE : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,100 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AsyncBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final int maxQueuedCalls;
+
+    private final Deque<Permit> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    public AsyncBulkhead(int maxConcurrentCalls, int maxQueuedCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxQueuedCalls = Math.max(0, maxQueuedCalls);
+    }
+
+    public Permit permit() {
+        return this.maxConcurrentCalls > 0 ? new Permit(this) : Permit.NONE;
+    }
+
+    public synchronized boolean isIdle() {
+        return this.inFlight == 0 && this.waiters.isEmpty();
+    }
+
+    private Mono<Void> acquire(Permit permit) {
+        return Mono.create(sink -> {
+            sink.onCancel(permit::release);
+            boolean granted;
+            synchronized (this) {
+                if (permit.claimed.get()) {
+                    sink.error(new IllegalStateException("Permit was already acquired or released"));
+                    return;
+                }
+                granted = this.inFlight < this.maxConcurrentCalls;
+                if (granted) {
+                    permit.claim();
+                    this.inFlight++;
+                } else if (this.waiters.size() >= this.maxQueuedCalls) {
+                    sink.error(new DataverseThrottledException("Too many queued calls to Dataverse"));
+                    return;
+                } else {
+                    permit.sink = sink;
+                    this.waiters.addLast(permit);
+                }
+            }
+            if (granted) sink.success();
+        });
+    }
+
+    private void release(Permit permit) {
+        synchronized (this) {
+            if (permit.claim()) {
+                this.waiters.remove(permit);
+                return;
+            }
+        }
+        Permit next;
+        synchronized (this) {
+            next = this.waiters.pollFirst();
+            if (next == null) {
+                this.inFlight--;
+                return;
+            }
+            next.claim();
+        }
+        next.sink.success();
+    }
+
+    public static class Permit {
+
+        public static final Permit NONE = new Permit(null);
+
+        private final AsyncBulkhead bulkhead;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private MonoSink<Void> sink;
+
+        private Permit(AsyncBulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        public Mono<Void> acquire() {
+            return this.bulkhead != null ? this.bulkhead.acquire(this) : Mono.empty();
+        }
+
+        public void release() {
+            if (this.bulkhead != null && this.released.compareAndSet(false, true)) this.bulkhead.release(this);
+        }
+
+        private boolean claim() {
+            return this.claimed.compareAndSet(false, true);
+        }
+    }
+}
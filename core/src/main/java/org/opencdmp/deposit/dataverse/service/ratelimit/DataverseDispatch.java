@@ -0,0 +1,20 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
+
+public final class DataverseDispatch {
+
+    public static final Class<DataverseDispatch> CONTEXT_KEY = DataverseDispatch.class;
+
+    private final Sinks.Empty<Void> dispatched = Sinks.empty();
+
+    public Mono<Void> onDispatched() {
+        return this.dispatched.asMono();
+    }
+
+    public static void markDispatched(ContextView context) {
+        context.getOrEmpty(CONTEXT_KEY).ifPresent(dispatch -> ((DataverseDispatch) dispatch).dispatched.tryEmitEmpty());
+    }
+}
@@ -0,0 +1,8 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+public interface DataverseRateLimiter {
+
+    ExchangeFilterFunction exchangeFilter();
+}
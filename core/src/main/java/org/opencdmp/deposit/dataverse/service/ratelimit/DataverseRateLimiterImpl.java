@@ -0,0 +1,139 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DataverseRateLimiterImpl implements DataverseRateLimiter {
+
+    public static final String QUEUE_WAIT_TIMER = "dataverse.client.queue.wait";
+    public static final String REJECTED_COUNTER = "dataverse.client.queue.rejected";
+
+    private static final String TOKEN_HEADER = "X-Dataverse-key";
+    private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
+
+    private final DataverseServiceProperties.RateLimit properties;
+    private final ConcurrentHashMap<String, Limiter> repositoryLimiters;
+    private final ConcurrentHashMap<String, Limiter> tokenLimiters;
+    private final Timer queueWaitTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DataverseRateLimiterImpl(DataverseServiceProperties dataverseServiceProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = dataverseServiceProperties.getRateLimit();
+        this.repositoryLimiters = new ConcurrentHashMap<>();
+        this.tokenLimiters = new ConcurrentHashMap<>();
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT_TIMER).register(this.meterRegistry);
+    }
+
+    @Override
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> {
+            if (!this.properties.isEnabled()) return this.dispatch(request, next);
+            return Mono.defer(() -> {
+                List<Limiter> limiters = this.limitersOf(request);
+                long start = System.nanoTime();
+                long maxWaitNanos = this.properties.getMaxWait() != null ? this.properties.getMaxWait().toNanos() : 0;
+
+                long rateWait = 0;
+                for (int i = 0; i < limiters.size(); i++) {
+                    long wait = limiters.get(i).tokenBucket().reserve(start, maxWaitNanos);
+                    if (wait == TokenBucket.REJECTED) {
+                        refund(limiters.subList(0, i));
+                        return this.rejected("rate", "Dataverse request rate limit exceeded for more than " + this.properties.getMaxWait());
+                    }
+                    rateWait = Math.max(rateWait, wait);
+                }
+
+                List<AsyncBulkhead.Permit> permits = limiters.stream().map(limiter -> limiter.bulkhead().permit()).toList();
+                Mono<Void> acquire = Flux.fromIterable(permits).concatMap(AsyncBulkhead.Permit::acquire).then();
+                Mono<Void> acquired = (rateWait > 0 ? Mono.delay(Duration.ofNanos(rateWait)).then(acquire) : acquire)
+                        .timeout(Duration.ofNanos(Math.max(1, maxWaitNanos)))
+                        .onErrorMap(TimeoutException.class, e -> {
+                            Counter.builder(REJECTED_COUNTER).tag("reason", "concurrency").register(this.meterRegistry).increment();
+                            return new DataverseThrottledException("Dataverse concurrency limit exceeded for more than " + this.properties.getMaxWait());
+                        })
+                        .doOnError(e -> refund(limiters))
+                        .doOnCancel(() -> refund(limiters))
+                        .doOnSuccess(x -> this.queueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+
+                return acquired.then(this.dispatch(request, next)).doFinally(signal -> permits.forEach(AsyncBulkhead.Permit::release));
+            });
+        };
+    }
+
+    private Mono<ClientResponse> dispatch(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            DataverseDispatch.markDispatched(context);
+            return next.exchange(request);
+        });
+    }
+
+    private static void refund(List<Limiter> limiters) {
+        limiters.forEach(limiter -> limiter.tokenBucket().refund());
+    }
+
+    private <T> Mono<T> rejected(String reason, String message) {
+        Counter.builder(REJECTED_COUNTER).tag("reason", reason).register(this.meterRegistry).increment();
+        return Mono.error(new DataverseThrottledException(message));
+    }
+
+    private List<Limiter> limitersOf(ClientRequest request) {
+        Limiter repositoryLimiter = this.repositoryLimiters.computeIfAbsent(repositoryOf(request.url()), x -> this.newLimiter(this.properties.getRepository()));
+        String token = request.headers().getFirst(TOKEN_HEADER);
+        if (token == null || token.isBlank()) return List.of(repositoryLimiter);
+
+        if (this.tokenLimiters.size() >= Math.max(1, this.properties.getMaxTrackedTokens())) this.purgeIdleTokenLimiters();
+        Limiter tokenLimiter = this.tokenLimiters.computeIfAbsent(repositoryOf(request.url()) + " " + digestOf(token), x -> this.newLimiter(this.properties.getToken()));
+        return List.of(tokenLimiter, repositoryLimiter);
+    }
+
+    private void purgeIdleTokenLimiters() {
+        long now = System.nanoTime();
+        this.tokenLimiters.values().removeIf(limiter -> limiter.bulkhead().isIdle() && limiter.tokenBucket().isIdle(now));
+    }
+
+    private Limiter newLimiter(DataverseServiceProperties.Limit limit) {
+        if (limit == null) limit = new DataverseServiceProperties.Limit();
+        return new Limiter(new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst()), new AsyncBulkhead(limit.getMaxConcurrentCalls(), this.properties.getMaxQueuedCalls()));
+    }
+
+    private static String digestOf(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unsupported digest algorithm " + TOKEN_DIGEST_ALGORITHM, e);
+        }
+    }
+
+    private static String repositoryOf(URI url) {
+        return url.getScheme() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
+    }
+
+    private record Limiter(TokenBucket tokenBucket, AsyncBulkhead bulkhead) {
+    }
+}
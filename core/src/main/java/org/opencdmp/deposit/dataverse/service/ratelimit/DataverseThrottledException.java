@@ -0,0 +1,10 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import gr.cite.tools.exception.MyApplicationException;
+
+public class DataverseThrottledException extends MyApplicationException {
+
+    public DataverseThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+public class TokenBucket {
+
+    public static final long REJECTED = -1;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    private long nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.intervalNanos = permitsPerSecond > 0 ? Math.max(1, (long) (1_000_000_000L / permitsPerSecond)) : 0;
+        this.burstNanos = this.intervalNanos * Math.max(0, burst - 1);
+        this.nextFreeNanos = Long.MIN_VALUE;
+    }
+
+    public synchronized long reserve(long nowNanos, long maxWaitNanos) {
+        if (this.intervalNanos == 0) return 0;
+
+        long earliest = nowNanos - this.burstNanos;
+        if (this.nextFreeNanos == Long.MIN_VALUE || this.nextFreeNanos - earliest < 0) this.nextFreeNanos = earliest;
+
+        long wait = Math.max(0, this.nextFreeNanos - nowNanos);
+        if (wait > maxWaitNanos) return REJECTED;
+        this.nextFreeNanos += this.intervalNanos;
+        return wait;
+    }
+
+    public synchronized void refund() {
+        if (this.intervalNanos == 0 || this.nextFreeNanos == Long.MIN_VALUE) return;
+        this.nextFreeNanos -= this.intervalNanos;
+    }
+
+    public synchronized boolean isIdle(long nowNanos) {
+        return this.intervalNanos == 0 || this.nextFreeNanos == Long.MIN_VALUE || this.nextFreeNanos - (nowNanos - this.burstNanos) <= 0;
+    }
+}
@@ -0,0 +1,101 @@
+package org.opencdmp.deposit.dataverse.service.resilience;
+
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+
+import java.time.Clock;
+import java.time.Instant;
+
+public class DataverseCircuitBreaker {
+
+    public enum State {
+        Closed,
+        Open,
+        HalfOpen
+    }
+
+    public static final long NOT_PERMITTED = -1;
+
+    private final DataverseServiceProperties.CircuitBreaker properties;
+    private final Clock clock;
+
+    private final boolean[] failures;
+    private int recordedCalls;
+    private int failedCalls;
+    private int position;
+
+    private State state = State.Closed;
+    private long generation;
+    private Instant openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public DataverseCircuitBreaker(DataverseServiceProperties.CircuitBreaker properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.failures = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+    }
+
+    public synchronized long tryAcquirePermission() {
+        if (!this.properties.isEnabled()) return this.generation;
+        if (this.state == State.Open) {
+            if (this.clock.instant().isBefore(this.openedAt.plus(this.properties.getWaitDurationInOpenState()))) return NOT_PERMITTED;
+            this.transitionTo(State.HalfOpen);
+        }
+        if (this.state == State.HalfOpen) {
+            if (this.halfOpenPermits <= 0) return NOT_PERMITTED;
+            this.halfOpenPermits--;
+        }
+        return this.generation;
+    }
+
+    public synchronized void onSuccess(long generation) {
+        if (!this.properties.isEnabled() || generation != this.generation) return;
+        if (this.state == State.HalfOpen) {
+            if (++this.halfOpenSuccesses >= Math.max(1, this.properties.getPermittedNumberOfCallsInHalfOpenState())) this.transitionTo(State.Closed);
+            return;
+        }
+        if (this.state == State.Closed) this.record(false);
+    }
+
+    public synchronized void onFailure(long generation) {
+        if (!this.properties.isEnabled() || generation != this.generation) return;
+        if (this.state == State.HalfOpen) {
+            this.transitionTo(State.Open);
+            return;
+        }
+        if (this.state == State.Closed) {
+            this.record(true);
+            if (this.recordedCalls >= Math.max(1, this.properties.getMinimumNumberOfCalls()) && this.failedCalls * 100 >= this.properties.getFailureRateThreshold() * this.recordedCalls) this.transitionTo(State.Open);
+        }
+    }
+
+    public synchronized void onIgnored(long generation) {
+        if (generation == this.generation && this.state == State.HalfOpen) this.halfOpenPermits++;
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    private void record(boolean failure) {
+        if (this.recordedCalls == this.failures.length) {
+            if (this.failures[this.position]) this.failedCalls--;
+        } else {
+            this.recordedCalls++;
+        }
+        this.failures[this.position] = failure;
+        if (failure) this.failedCalls++;
+        this.position = (this.position + 1) % this.failures.length;
+    }
+
+    private void transitionTo(State state) {
+        this.state = state;
+        this.generation++;
+        this.recordedCalls = 0;
+        this.failedCalls = 0;
+        this.position = 0;
+        this.openedAt = state == State.Open ? this.clock.instant() : null;
+        this.halfOpenPermits = state == State.HalfOpen ? Math.max(1, this.properties.getPermittedNumberOfCallsInHalfOpenState()) : 0;
+        this.halfOpenSuccesses = 0;
+    }
+}
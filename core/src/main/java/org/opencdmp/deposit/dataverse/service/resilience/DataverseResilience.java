@@ -0,0 +1,8 @@
+package org.opencdmp.deposit.dataverse.service.resilience;
+
+import reactor.core.publisher.Mono;
+
+public interface DataverseResilience {
+
+    <T> Mono<T> decorate(String stage, Mono<T> call);
+}
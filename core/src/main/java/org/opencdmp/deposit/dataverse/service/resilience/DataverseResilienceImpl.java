@@ -0,0 +1,165 @@
+package org.opencdmp.deposit.dataverse.service.resilience;
+
+import gr.cite.tools.logging.LoggerService;
+import gr.cite.tools.logging.MapLogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+import org.opencdmp.deposit.dataverse.service.ratelimit.DataverseDispatch;
+import org.opencdmp.deposit.dataverse.service.ratelimit.DataverseThrottledException;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class DataverseResilienceImpl implements DataverseResilience {
+    private static final LoggerService logger = new LoggerService(LoggerFactory.getLogger(DataverseResilienceImpl.class));
+
+    public static final String CIRCUIT_BREAKER_STATE_GAUGE = "dataverse.circuit.breaker.state";
+    public static final String CIRCUIT_BREAKER_NOT_PERMITTED_COUNTER = "dataverse.circuit.breaker.not.permitted";
+    public static final String RETRY_COUNTER = "dataverse.retry";
+
+    private final DataverseServiceProperties.Resilience properties;
+    private final DataverseCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter notPermittedCounter;
+
+    @Autowired
+    public DataverseResilienceImpl(DataverseServiceProperties dataverseServiceProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = dataverseServiceProperties.getResilience();
+        this.circuitBreaker = new DataverseCircuitBreaker(this.properties.getCircuitBreaker(), Clock.systemUTC());
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        for (DataverseCircuitBreaker.State state : DataverseCircuitBreaker.State.values()) {
+            Gauge.builder(CIRCUIT_BREAKER_STATE_GAUGE, this.circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name())
+                    .register(this.meterRegistry);
+        }
+        this.notPermittedCounter = Counter.builder(CIRCUIT_BREAKER_NOT_PERMITTED_COUNTER).register(this.meterRegistry);
+    }
+
+    @Override
+    public <T> Mono<T> decorate(String stage, Mono<T> call) {
+        Mono<T> attempt = this.withCircuitBreaker(stage, this.withTimeout(stage, call));
+
+        DataverseServiceProperties.Retry retry = this.properties.getRetry();
+        if (!retry.isEnabled() || retry.getMaxAttempts() <= 1) return attempt;
+
+        boolean retriable = retry.getStages() != null && retry.getStages().contains(stage);
+        return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            boolean throttled = isThrottled(failure);
+            if (signal.totalRetries() >= retry.getMaxAttempts() - 1 || !(throttled || (retriable ? isTransient(failure) : isConnectFailure(failure)))) return Mono.error(failure);
+
+            Duration delay = retryAfterOf(failure);
+            if (delay != null && retry.getMaxRetryAfter() != null && delay.compareTo(retry.getMaxRetryAfter()) > 0) return Mono.error(failure);
+            if (delay == null) delay = backoffOf(retry, signal.totalRetries());
+
+            logger.warn(new MapLogEntry("Retrying dataverse call").And("stage", stage).And("attempt", signal.totalRetries() + 1).And("delay", delay).And("error", failure.getMessage()));
+            Counter.builder(RETRY_COUNTER).tag("stage", stage).register(this.meterRegistry).increment();
+            return Mono.delay(delay);
+        })));
+    }
+
+    private static Duration backoffOf(DataverseServiceProperties.Retry retry, long retries) {
+        Duration backoff = retry.getInitialBackoff().multipliedBy(1L << Math.min(retries, 30));
+        if (retry.getMaxBackoff() != null && backoff.compareTo(retry.getMaxBackoff()) > 0) backoff = retry.getMaxBackoff();
+        long jitter = (long) (backoff.toMillis() * Math.max(0, Math.min(1, retry.getJitter())));
+        return jitter > 0 ? backoff.plusMillis(ThreadLocalRandom.current().nextLong(-jitter, jitter + 1)) : backoff;
+    }
+
+    private static Duration retryAfterOf(Throwable e) {
+        if (!(e instanceof WebClientResponseException responseException)) return null;
+        String retryAfter = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    private <T> Mono<T> withTimeout(String stage, Mono<T> call) {
+        Duration timeout = this.properties.getTimeouts() != null ? this.properties.getTimeouts().get(stage) : null;
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) return call;
+
+        return Mono.defer(() -> {
+            DataverseDispatch dispatch = new DataverseDispatch();
+            return call.timeout(dispatch.onDispatched().then(Mono.delay(timeout)))
+                    .contextWrite(Context.of(DataverseDispatch.CONTEXT_KEY, dispatch));
+        });
+    }
+
+    private <T> Mono<T> withCircuitBreaker(String stage, Mono<T> call) {
+        return Mono.defer(() -> {
+            long generation = this.circuitBreaker.tryAcquirePermission();
+            if (generation == DataverseCircuitBreaker.NOT_PERMITTED) {
+                this.notPermittedCounter.increment();
+                return Mono.error(new DataverseUnavailableException("Dataverse is currently unavailable, " + stage + " was not attempted"));
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(result -> {
+                        if (recorded.compareAndSet(false, true)) this.circuitBreaker.onSuccess(generation);
+                    })
+                    .doOnError(e -> {
+                        if (!recorded.compareAndSet(false, true)) return;
+                        if (e instanceof DataverseThrottledException) this.circuitBreaker.onIgnored(generation);
+                        else if (isRepositoryFailure(e)) this.circuitBreaker.onFailure(generation);
+                        else this.circuitBreaker.onSuccess(generation);
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL && recorded.compareAndSet(false, true)) this.circuitBreaker.onIgnored(generation);
+                    });
+        });
+    }
+
+    private static boolean isRepositoryFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) return responseException.getStatusCode().is5xxServerError();
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private static boolean isThrottled(Throwable e) {
+        return e instanceof WebClientResponseException responseException && responseException.getStatusCode().value() == 429;
+    }
+
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private static boolean isConnectFailure(Throwable e) {
+        if (!(e instanceof WebClientRequestException)) return false;
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package org.opencdmp.deposit.dataverse.service.resilience;
+
+import gr.cite.tools.exception.MyApplicationException;
+
+public class DataverseUnavailableException extends MyApplicationException {
+
+    public DataverseUnavailableException(String message) {
+        super(message);
+    }
+}
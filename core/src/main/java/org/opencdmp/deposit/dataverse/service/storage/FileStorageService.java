@@ -1,7 +1,11 @@
 package org.opencdmp.deposit.dataverse.service.storage;
 
+import org.springframework.core.io.Resource;
+
 public interface FileStorageService {
 	String storeFile(byte[] data);
 
 	byte[] readFile(String fileRef);
+
+	Resource readFileAsResource(String fileRef);
 }
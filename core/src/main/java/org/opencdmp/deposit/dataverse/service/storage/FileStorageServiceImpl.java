@@ -3,6 +3,8 @@ package org.opencdmp.deposit.dataverse.service.storage;
 import gr.cite.tools.logging.LoggerService;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.FileInputStream;
@@ -47,4 +49,14 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
         return new byte[0];
     }
+
+    @Override
+    public Resource readFileAsResource(String fileRef) {
+        Path storagePath = Paths.get(properties.getTransientPath() + "/" + fileRef);
+        if (!Files.isReadable(storagePath)) {
+            logger.error("File " + storagePath + " is not readable");
+            return null;
+        }
+        return new FileSystemResource(storagePath);
+    }
 }
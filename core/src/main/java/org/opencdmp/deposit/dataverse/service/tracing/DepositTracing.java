@@ -0,0 +1,24 @@
+package org.opencdmp.deposit.dataverse.service.tracing;
+
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.Callable;
+
+public interface DepositTracing {
+
+    <T> T traceDeposit(String type, DepositCallable<T> deposit) throws Exception;
+
+    ExchangeFilterFunction exchangeFilter();
+
+    <T> Flux<T> withCurrentSpan(Flux<T> flux);
+
+    Runnable withCurrentSpan(Runnable task);
+
+    <T> Callable<T> withCurrentSpan(Callable<T> task);
+
+    @FunctionalInterface
+    interface DepositCallable<T> {
+        T call() throws Exception;
+    }
+}
@@ -0,0 +1,150 @@
+package org.opencdmp.deposit.dataverse.service.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+@Component
+public class DepositTracingImpl implements DepositTracing {
+
+    private static final String PARENT_SPAN_KEY = DepositTracingImpl.class.getName() + ".parentSpan";
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private static final String SPAN_DEPOSIT = "dataverse deposit";
+    private static final String TAG_DEPOSIT_TYPE = "deposit.type";
+    private static final String TAG_METHOD = "http.request.method";
+    private static final String TAG_URL_TEMPLATE = "url.template";
+    private static final String TAG_SERVER_ADDRESS = "server.address";
+    private static final String TAG_STATUS_CODE = "http.response.status_code";
+    private static final String TAG_REQUEST_BYTES = "http.request.body.size";
+    private static final String TAG_RESPONSE_BYTES = "http.response.body.size";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Autowired
+    public DepositTracingImpl(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    @Override
+    public <T> T traceDeposit(String type, DepositCallable<T> deposit) throws Exception {
+        Span span = this.tracer.nextSpan().name(SPAN_DEPOSIT).tag(TAG_DEPOSIT_TYPE, type).start();
+        try (Tracer.SpanInScope ignored = this.tracer.withSpan(span)) {
+            return deposit.call();
+        } catch (Exception | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            Span parent = context.getOrDefault(PARENT_SPAN_KEY, this.tracer.currentSpan());
+            String urlTemplate = urlTemplate(request.url());
+            Span.Builder spanBuilder = this.tracer.spanBuilder();
+            if (parent != null) spanBuilder.setParent(parent.context());
+            Span span = spanBuilder.name(request.method().name() + " " + urlTemplate)
+                    .kind(Span.Kind.CLIENT)
+                    .tag(TAG_METHOD, request.method().name())
+                    .tag(TAG_URL_TEMPLATE, urlTemplate)
+                    .tag(TAG_SERVER_ADDRESS, String.valueOf(request.url().getHost()))
+                    .start();
+
+            AtomicLong requestBytes = new AtomicLong();
+            ClientRequest.Builder builder = ClientRequest.from(request)
+                    .body((message, bodyContext) -> request.body().insert(new CountingClientHttpRequest(message, requestBytes), bodyContext));
+            this.propagator.inject(span.context(), builder, ClientRequest.Builder::header);
+
+            return next.exchange(builder.build())
+                    .doOnNext(response -> this.tagResponse(span, response))
+                    .doOnError(e -> {
+                        if (e instanceof WebClientResponseException responseException) span.tag(TAG_STATUS_CODE, responseException.getStatusCode().value());
+                        span.error(e);
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) span.event("cancelled");
+                        span.tag(TAG_REQUEST_BYTES, requestBytes.get());
+                        span.end();
+                    });
+        });
+    }
+
+    @Override
+    public <T> Flux<T> withCurrentSpan(Flux<T> flux) {
+        Span span = this.tracer.currentSpan();
+        return span != null ? flux.contextWrite(Context.of(PARENT_SPAN_KEY, span)) : flux;
+    }
+
+    @Override
+    public Runnable withCurrentSpan(Runnable task) {
+        Span span = this.tracer.currentSpan();
+        if (span == null) return task;
+        return () -> {
+            try (Tracer.SpanInScope ignored = this.tracer.withSpan(span)) {
+                task.run();
+            }
+        };
+    }
+
+    @Override
+    public <T> Callable<T> withCurrentSpan(Callable<T> task) {
+        Span span = this.tracer.currentSpan();
+        if (span == null) return task;
+        return () -> {
+            try (Tracer.SpanInScope ignored = this.tracer.withSpan(span)) {
+                return task.call();
+            }
+        };
+    }
+
+    private void tagResponse(Span span, ClientResponse response) {
+        span.tag(TAG_STATUS_CODE, response.statusCode().value());
+        response.headers().contentLength().ifPresent(length -> span.tag(TAG_RESPONSE_BYTES, length));
+        if (response.statusCode().isError()) span.tag("error", "true");
+    }
+
+    private static String urlTemplate(URI url) {
+        String path = url.getRawPath() != null ? url.getRawPath() : "";
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private static class CountingClientHttpRequest extends ClientHttpRequestDecorator {
+
+        private final AtomicLong bytes;
+
+        private CountingClientHttpRequest(ClientHttpRequest delegate, AtomicLong bytes) {
+            super(delegate);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> this.bytes.addAndGet(buffer.readableByteCount())));
+        }
+    }
+}
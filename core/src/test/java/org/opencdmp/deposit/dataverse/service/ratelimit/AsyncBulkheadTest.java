@@ -0,0 +1,189 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncBulkheadTest {
+
+    @Test
+    void grantsUpToMaxConcurrentCalls() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(2, 10);
+        bulkhead.permit().acquire().block();
+        bulkhead.permit().acquire().block();
+
+        AtomicBoolean granted = new AtomicBoolean();
+        bulkhead.permit().acquire().subscribe(null, null, () -> granted.set(true));
+
+        assertThat(granted).isFalse();
+    }
+
+    @Test
+    void releaseHandsPermitToWaitersInOrder() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+        AsyncBulkhead.Permit first = bulkhead.permit();
+        first.acquire().block();
+
+        List<Integer> granted = new ArrayList<>();
+        List<AsyncBulkhead.Permit> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int waiter = i;
+            AsyncBulkhead.Permit permit = bulkhead.permit();
+            waiters.add(permit);
+            permit.acquire().subscribe(null, null, () -> granted.add(waiter));
+        }
+        assertThat(granted).isEmpty();
+
+        first.release();
+        assertThat(granted).containsExactly(0);
+        waiters.get(0).release();
+        waiters.get(1).release();
+        assertThat(granted).containsExactly(0, 1, 2);
+
+        waiters.get(2).release();
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 1);
+        bulkhead.permit().acquire().block();
+        bulkhead.permit().acquire().subscribe();
+
+        assertThatThrownBy(() -> bulkhead.permit().acquire().block()).isInstanceOf(DataverseThrottledException.class);
+    }
+
+    @Test
+    void releaseIsIdempotent() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+        AsyncBulkhead.Permit first = bulkhead.permit();
+        first.acquire().block();
+        AsyncBulkhead.Permit second = bulkhead.permit();
+        AtomicBoolean granted = new AtomicBoolean();
+        second.acquire().subscribe(null, null, () -> granted.set(true));
+
+        first.release();
+        first.release();
+
+        assertThat(granted).isTrue();
+        assertThat(bulkhead.isIdle()).isFalse();
+        second.release();
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void releasingQueuedPermitWithdrawsIt() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+        AsyncBulkhead.Permit first = bulkhead.permit();
+        first.acquire().block();
+        AsyncBulkhead.Permit withdrawn = bulkhead.permit();
+        AtomicBoolean granted = new AtomicBoolean();
+        withdrawn.acquire().subscribe(null, null, () -> granted.set(true));
+
+        withdrawn.release();
+        first.release();
+
+        assertThat(granted).isFalse();
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueue() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 1);
+        AsyncBulkhead.Permit first = bulkhead.permit();
+        first.acquire().block();
+
+        Disposable cancelled = bulkhead.permit().acquire().subscribe();
+        cancelled.dispose();
+
+        AsyncBulkhead.Permit queued = bulkhead.permit();
+        AtomicBoolean granted = new AtomicBoolean();
+        queued.acquire().subscribe(null, null, () -> granted.set(true));
+        first.release();
+
+        assertThat(granted).isTrue();
+        queued.release();
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void timedOutWaiterDoesNotHoldPermit() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+        AsyncBulkhead.Permit first = bulkhead.permit();
+        first.acquire().block();
+
+        AsyncBulkhead.Permit waiter = bulkhead.permit();
+        assertThatThrownBy(() -> waiter.acquire().timeout(Duration.ofMillis(10)).doFinally(signal -> waiter.release()).block()).hasCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        first.release();
+
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void cancelRacingGrantNeverLeaksPermit() throws Exception {
+        for (int i = 0; i < 2_000; i++) {
+            AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+            AsyncBulkhead.Permit first = bulkhead.permit();
+            first.acquire().block();
+            AsyncBulkhead.Permit waiter = bulkhead.permit();
+            Disposable subscription = waiter.acquire().subscribe();
+
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            CountDownLatch done = new CountDownLatch(2);
+            Thread.ofPlatform().start(() -> {
+                await(barrier);
+                first.release();
+                done.countDown();
+            });
+            Thread.ofPlatform().start(() -> {
+                await(barrier);
+                subscription.dispose();
+                waiter.release();
+                done.countDown();
+            });
+            done.await();
+
+            assertThat(bulkhead.isIdle()).as("iteration %d", i).isTrue();
+        }
+    }
+
+    @Test
+    void permitCannotBeAcquiredAfterRelease() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 10);
+        AsyncBulkhead.Permit permit = bulkhead.permit();
+        permit.release();
+
+        assertThatThrownBy(() -> permit.acquire().block()).isInstanceOf(IllegalStateException.class);
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    @Test
+    void unlimitedWhenMaxConcurrentCallsIsNotPositive() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(0, 0);
+
+        for (int i = 0; i < 10; i++) {
+            AsyncBulkhead.Permit permit = bulkhead.permit();
+            assertThat(permit).isSameAs(AsyncBulkhead.Permit.NONE);
+            permit.acquire().block();
+        }
+        assertThat(bulkhead.isIdle()).isTrue();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.opencdmp.deposit.dataverse.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final long START = 5_000 * MILLIS;
+
+    @Test
+    void grantsBurstWithoutWaiting() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+
+        for (int i = 0; i < 3; i++) assertThat(bucket.reserve(START, 0)).isZero();
+        assertThat(bucket.reserve(START, 0)).isEqualTo(TokenBucket.REJECTED);
+    }
+
+    @Test
+    void spacesReservationsBeyondBurst() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isZero();
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isEqualTo(100 * MILLIS);
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isEqualTo(200 * MILLIS);
+        assertThat(bucket.reserve(START + 150 * MILLIS, 1_000 * MILLIS)).isEqualTo(150 * MILLIS);
+    }
+
+    @Test
+    void rejectsWhenWaitExceedsMaximumWithoutReserving() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        bucket.reserve(START, 0);
+
+        assertThat(bucket.reserve(START, 50 * MILLIS)).isEqualTo(TokenBucket.REJECTED);
+        assertThat(bucket.reserve(START, 100 * MILLIS)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void refillsAfterIdlePeriod() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+        bucket.reserve(START, 0);
+        bucket.reserve(START, 0);
+
+        assertThat(bucket.reserve(START, 0)).isEqualTo(TokenBucket.REJECTED);
+        assertThat(bucket.reserve(START + 200 * MILLIS, 0)).isZero();
+        assertThat(bucket.reserve(START + 200 * MILLIS, 0)).isZero();
+        assertThat(bucket.reserve(START + 200 * MILLIS, 0)).isEqualTo(TokenBucket.REJECTED);
+    }
+
+    @Test
+    void refundReturnsReservation() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isZero();
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isEqualTo(100 * MILLIS);
+
+        bucket.refund();
+
+        assertThat(bucket.reserve(START, 1_000 * MILLIS)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void refundDoesNotGrantBeyondBurst() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        bucket.reserve(START, 0);
+        bucket.refund();
+        bucket.refund();
+
+        assertThat(bucket.reserve(START, 0)).isZero();
+        assertThat(bucket.reserve(START, 0)).isEqualTo(TokenBucket.REJECTED);
+    }
+
+    @Test
+    void refundOnUnusedBucketIsIgnored() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        bucket.refund();
+
+        assertThat(bucket.reserve(START, 0)).isZero();
+        assertThat(bucket.reserve(START, 0)).isEqualTo(TokenBucket.REJECTED);
+    }
+
+    @Test
+    void isIdleOnceReservationsAreConsumed() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        assertThat(bucket.isIdle(START)).isTrue();
+
+        bucket.reserve(START, 0);
+        assertThat(bucket.isIdle(START)).isFalse();
+        assertThat(bucket.isIdle(START + 100 * MILLIS)).isTrue();
+    }
+
+    @Test
+    void unlimitedWhenRateIsNotPositive() {
+        TokenBucket bucket = new TokenBucket(0, 1);
+
+        for (int i = 0; i < 100; i++) assertThat(bucket.reserve(START, 0)).isZero();
+        assertThat(bucket.isIdle(START)).isTrue();
+    }
+}
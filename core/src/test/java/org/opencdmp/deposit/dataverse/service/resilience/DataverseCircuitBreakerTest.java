@@ -0,0 +1,179 @@
+package org.opencdmp.deposit.dataverse.service.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseServiceProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataverseCircuitBreakerTest {
+
+    private MutableClock clock;
+    private DataverseServiceProperties.CircuitBreaker properties;
+    private DataverseCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        this.properties = new DataverseServiceProperties.CircuitBreaker();
+        this.properties.setSlidingWindowSize(4);
+        this.properties.setMinimumNumberOfCalls(4);
+        this.properties.setFailureRateThreshold(50);
+        this.properties.setWaitDurationInOpenState(Duration.ofSeconds(30));
+        this.properties.setPermittedNumberOfCallsInHalfOpenState(2);
+        this.breaker = new DataverseCircuitBreaker(this.properties, this.clock);
+    }
+
+    @Test
+    void staysClosedUntilMinimumNumberOfCalls() {
+        for (int i = 0; i < 3; i++) this.breaker.onFailure(this.breaker.tryAcquirePermission());
+
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Closed);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        this.trip();
+
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Open);
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+    }
+
+    @Test
+    void failureRateCoversOnlyTheSlidingWindow() {
+        long generation = this.breaker.tryAcquirePermission();
+        for (int i = 0; i < 4; i++) this.breaker.onSuccess(generation);
+        this.breaker.onFailure(generation);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Closed);
+
+        this.breaker.onFailure(generation);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Open);
+    }
+
+    @Test
+    void rejectsUntilWaitDurationElapses() {
+        this.trip();
+
+        this.clock.advance(Duration.ofSeconds(29));
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+
+        this.clock.advance(Duration.ofSeconds(1));
+        assertThat(this.breaker.tryAcquirePermission()).isNotEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.HalfOpen);
+    }
+
+    @Test
+    void halfOpenClosesAfterPermittedSuccesses() {
+        this.trip();
+        this.clock.advance(Duration.ofSeconds(30));
+
+        long first = this.breaker.tryAcquirePermission();
+        long second = this.breaker.tryAcquirePermission();
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+
+        this.breaker.onSuccess(first);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.HalfOpen);
+        this.breaker.onSuccess(second);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Closed);
+        assertThat(this.breaker.tryAcquirePermission()).isNotEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+    }
+
+    @Test
+    void halfOpenReopensOnFailure() {
+        this.trip();
+        this.clock.advance(Duration.ofSeconds(30));
+
+        this.breaker.onFailure(this.breaker.tryAcquirePermission());
+
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Open);
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+        this.clock.advance(Duration.ofSeconds(30));
+        assertThat(this.breaker.tryAcquirePermission()).isNotEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+    }
+
+    @Test
+    void ignoredCallReturnsHalfOpenPermit() {
+        this.trip();
+        this.clock.advance(Duration.ofSeconds(30));
+
+        long first = this.breaker.tryAcquirePermission();
+        this.breaker.tryAcquirePermission();
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+
+        this.breaker.onIgnored(first);
+        assertThat(this.breaker.tryAcquirePermission()).isNotEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+    }
+
+    @Test
+    void ignoresOutcomesFromEarlierState() {
+        long stale = this.breaker.tryAcquirePermission();
+        this.trip();
+        this.clock.advance(Duration.ofSeconds(30));
+        long probe = this.breaker.tryAcquirePermission();
+
+        this.breaker.onFailure(stale);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.HalfOpen);
+
+        this.breaker.onSuccess(stale);
+        this.breaker.onSuccess(stale);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.HalfOpen);
+
+        this.breaker.onIgnored(stale);
+        this.breaker.tryAcquirePermission();
+        assertThat(this.breaker.tryAcquirePermission()).isEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+
+        this.breaker.onSuccess(probe);
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.HalfOpen);
+    }
+
+    @Test
+    void disabledBreakerAlwaysPermits() {
+        this.properties.setEnabled(false);
+        this.trip();
+
+        assertThat(this.breaker.getState()).isEqualTo(DataverseCircuitBreaker.State.Closed);
+        assertThat(this.breaker.tryAcquirePermission()).isNotEqualTo(DataverseCircuitBreaker.NOT_PERMITTED);
+    }
+
+    private void trip() {
+        long generation = this.breaker.tryAcquirePermission();
+        this.breaker.onSuccess(generation);
+        this.breaker.onSuccess(generation);
+        this.breaker.onFailure(generation);
+        this.breaker.onFailure(generation);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
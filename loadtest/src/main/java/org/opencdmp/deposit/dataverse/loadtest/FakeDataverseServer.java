@@ -0,0 +1,460 @@
+package org.opencdmp.deposit.dataverse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpData;
+import org.opencdmp.deposit.dataverse.service.ratelimit.TokenBucket;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class FakeDataverseServer implements AutoCloseable {
+
+    public static final String OPERATION_CREATE = "create";
+    public static final String OPERATION_DRAFT = "draft";
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_REPLACE = "replace";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_PUBLISH = "publish";
+    public static final String OPERATION_LOCKS = "locks";
+    public static final String OPERATION_DATASET = "dataset";
+
+    private static final Pattern CREATE_PATH = Pattern.compile("/api/dataverses/[^/]+/datasets/?");
+    private static final Pattern DRAFT_PATH = Pattern.compile("/api/datasets/:persistentId/versions/:draft/?");
+    private static final Pattern ADD_PATH = Pattern.compile("/api/datasets/:persistentId/add/?");
+    private static final Pattern PUBLISH_PATH = Pattern.compile("/api/datasets/:persistentId/actions/:publish/?");
+    private static final Pattern DATASET_PATH = Pattern.compile("/api/datasets/:persistentId/?");
+    private static final Pattern LOCKS_PATH = Pattern.compile("/api/datasets/:persistentId/locks/?");
+    private static final Pattern REPLACE_PATH = Pattern.compile("/api/files/(\\d+)/replace/?");
+    private static final Pattern DELETE_PATH = Pattern.compile("/api/files/(\\d+)/?");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Settings settings;
+    private final TokenBucket throughputCap;
+
+    private final Map<String, Dataset> datasets = new ConcurrentHashMap<>();
+    private final Map<Integer, Dataset> datasetsByFileId = new ConcurrentHashMap<>();
+    private final AtomicInteger datasetIds = new AtomicInteger();
+    private final AtomicInteger fileIds = new AtomicInteger();
+
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+
+    private DisposableServer server;
+
+    public FakeDataverseServer(Settings settings) {
+        this.settings = settings;
+        this.throughputCap = new TokenBucket(settings.getMaxRequestsPerSecond(), Math.max(1, (int) Math.ceil(settings.getMaxRequestsPerSecond())));
+    }
+
+    public FakeDataverseServer start() {
+        this.server = HttpServer.create()
+                .host(this.settings.getHost())
+                .port(this.settings.getPort())
+                .handle(this::handle)
+                .bindNow();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + this.settings.getHost() + ":" + this.server.port() + "/api/";
+    }
+
+    public Map<String, Long> getRequests() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.requests.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    public long getThrottled() {
+        return this.throttled.sum();
+    }
+
+    public long getInjectedErrors() {
+        return this.injectedErrors.sum();
+    }
+
+    public long getBytesReceived() {
+        return this.bytesReceived.sum();
+    }
+
+    public void awaitShutdown() {
+        this.server.onDispose().block();
+    }
+
+    @Override
+    public void close() {
+        if (this.server != null) this.server.disposeNow();
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
+        String path = decoder.path();
+        String persistentId = decoder.parameters().getOrDefault("persistentId", List.of()).stream().findFirst().orElse(null);
+        HttpMethod method = request.method();
+
+        String operation;
+        Matcher matcher;
+        if (method.equals(HttpMethod.POST) && CREATE_PATH.matcher(path).matches()) operation = OPERATION_CREATE;
+        else if (method.equals(HttpMethod.PUT) && DRAFT_PATH.matcher(path).matches()) operation = OPERATION_DRAFT;
+        else if (method.equals(HttpMethod.POST) && ADD_PATH.matcher(path).matches()) operation = OPERATION_ADD;
+        else if (method.equals(HttpMethod.POST) && PUBLISH_PATH.matcher(path).matches()) operation = OPERATION_PUBLISH;
+        else if (method.equals(HttpMethod.POST) && REPLACE_PATH.matcher(path).matches()) operation = OPERATION_REPLACE;
+        else if (method.equals(HttpMethod.DELETE) && DELETE_PATH.matcher(path).matches()) operation = OPERATION_DELETE;
+        else if (method.equals(HttpMethod.GET) && LOCKS_PATH.matcher(path).matches()) operation = OPERATION_LOCKS;
+        else if (method.equals(HttpMethod.GET) && DATASET_PATH.matcher(path).matches()) operation = OPERATION_DATASET;
+        else return this.send(response, HttpResponseStatus.NOT_FOUND, error("Endpoint not found: " + method + " " + path));
+
+        this.requests.computeIfAbsent(operation, x -> new LongAdder()).increment();
+
+        if (this.throughputCap.reserve(System.nanoTime(), 0) == TokenBucket.REJECTED) {
+            this.throttled.increment();
+            return request.receive().then(this.send(response.header("Retry-After", "1"), HttpResponseStatus.TOO_MANY_REQUESTS, error("Too many requests")));
+        }
+
+        Mono<Object> result = switch (operation) {
+            case OPERATION_CREATE -> request.receive().aggregate().asByteArray().defaultIfEmpty(new byte[0]).map(body -> {
+                this.bytesReceived.add(body.length);
+                return this.createDataset();
+            });
+            case OPERATION_DRAFT -> request.receive().aggregate().asByteArray().defaultIfEmpty(new byte[0]).map(body -> {
+                this.bytesReceived.add(body.length);
+                return this.draft(persistentId);
+            });
+            case OPERATION_ADD -> this.receiveFile(request).map(file -> this.addFile(persistentId, file));
+            case OPERATION_REPLACE -> {
+                matcher = REPLACE_PATH.matcher(path);
+                int fileId = matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+                yield this.receiveFile(request).map(file -> this.replaceFile(fileId, file));
+            }
+            case OPERATION_DELETE -> {
+                matcher = DELETE_PATH.matcher(path);
+                int fileId = matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+                yield request.receive().then(Mono.fromSupplier(() -> this.deleteFile(fileId)));
+            }
+            case OPERATION_LOCKS -> request.receive().then(Mono.fromSupplier(() -> this.locks(persistentId)));
+            case OPERATION_DATASET -> request.receive().then(Mono.fromSupplier(() -> this.dataset(persistentId)));
+            default -> request.receive().then(Mono.fromSupplier(() -> this.publish(persistentId)));
+        };
+
+        return result
+                .delayElement(this.latency())
+                .flatMap(body -> {
+                    if (this.settings.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < this.settings.getErrorRate()) {
+                        this.injectedErrors.increment();
+                        return this.send(response, HttpResponseStatus.SERVICE_UNAVAILABLE, error("Injected failure"));
+                    }
+                    return this.send(response, operation.equals(OPERATION_CREATE) ? HttpResponseStatus.CREATED : HttpResponseStatus.OK, ok(body));
+                })
+                .onErrorResume(NotFoundException.class, e -> this.send(response, HttpResponseStatus.NOT_FOUND, error(e.getMessage())))
+                .onErrorResume(BadRequestException.class, e -> this.send(response, HttpResponseStatus.BAD_REQUEST, error(e.getMessage())))
+                .onErrorResume(LockedException.class, e -> this.send(response, HttpResponseStatus.FORBIDDEN, error(e.getMessage())));
+    }
+
+    private Mono<UploadedFile> receiveFile(HttpServerRequest request) {
+        return request.receiveForm()
+                .filter(data -> data instanceof FileUpload)
+                .map(data -> {
+                    try {
+                        byte[] content = ((HttpData) data).get();
+                        this.bytesReceived.add(content.length);
+                        return new UploadedFile(((FileUpload) data).getFilename(), content.length, md5(content));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .next()
+                .switchIfEmpty(Mono.error(new NotFoundException("No file part in request")));
+    }
+
+    private Map<String, Object> createDataset() {
+        int id = this.datasetIds.incrementAndGet();
+        String persistentId = "doi:10.5072/FK2/" + Integer.toString(id, 36).toUpperCase(Locale.ROOT);
+        this.datasets.put(persistentId, new Dataset(id, persistentId));
+        return Map.of("id", id, "persistentId", persistentId);
+    }
+
+    private Map<String, Object> draft(String persistentId) {
+        Dataset dataset = this.datasets.computeIfAbsent(persistentId, x -> new Dataset(this.datasetIds.incrementAndGet(), persistentId));
+        dataset.checkUnlocked();
+        dataset.edit();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", dataset.id);
+        data.put("versionState", "DRAFT");
+        data.put("files", dataset.files());
+        return data;
+    }
+
+    private Map<String, Object> addFile(String persistentId, UploadedFile file) {
+        Dataset dataset = this.datasets.get(persistentId);
+        if (dataset == null) throw new NotFoundException("Dataset " + persistentId + " not found");
+        dataset.checkUnlocked();
+        int fileId = this.fileIds.incrementAndGet();
+        dataset.edit();
+        dataset.put(fileId, file);
+        this.datasetsByFileId.put(fileId, dataset);
+        return Map.of("files", List.of(fileEntry(fileId, file, null)));
+    }
+
+    private Map<String, Object> replaceFile(int fileId, UploadedFile file) {
+        Dataset dataset = this.datasetsByFileId.get(fileId);
+        if (dataset == null) throw new NotFoundException("File " + fileId + " not found");
+        if (!dataset.isReleased(fileId)) throw new BadRequestException("Replace operation failed: file " + fileId + " has not been published");
+        this.datasetsByFileId.remove(fileId);
+        dataset.remove(fileId);
+        dataset.edit();
+        int replacementId = this.fileIds.incrementAndGet();
+        dataset.put(replacementId, file);
+        this.datasetsByFileId.put(replacementId, dataset);
+        return Map.of("files", List.of(fileEntry(replacementId, file, null)));
+    }
+
+    private Map<String, Object> deleteFile(int fileId) {
+        Dataset dataset = this.datasetsByFileId.remove(fileId);
+        if (dataset == null) throw new NotFoundException("File " + fileId + " not found");
+        dataset.edit();
+        dataset.remove(fileId);
+        return Map.of("message", "File " + fileId + " deleted");
+    }
+
+    private Map<String, Object> publish(String persistentId) {
+        Dataset dataset = this.datasets.get(persistentId);
+        if (dataset == null) throw new NotFoundException("Dataset " + persistentId + " not found");
+        dataset.checkUnlocked();
+        return Map.of("id", dataset.id, "persistentId", persistentId, "versionNumber", dataset.publish(this.settings.getPublishLock()));
+    }
+
+    private Map<String, Object> dataset(String persistentId) {
+        Dataset dataset = this.datasets.get(persistentId);
+        if (dataset == null) throw new NotFoundException("Dataset " + persistentId + " not found");
+        return Map.of("id", dataset.id, "persistentId", persistentId, "latestVersion", Map.of("versionState", dataset.versionState()));
+    }
+
+    private List<Map<String, Object>> locks(String persistentId) {
+        Dataset dataset = this.datasets.get(persistentId);
+        if (dataset == null) throw new NotFoundException("Dataset " + persistentId + " not found");
+        return dataset.isLocked() ? List.of(Map.of("lockType", "finalizePublication", "dataset", persistentId)) : List.of();
+    }
+
+    private Duration latency() {
+        long latency = this.settings.getLatency().toNanos();
+        long jitter = this.settings.getLatencyJitter().toNanos();
+        if (jitter > 0) latency += ThreadLocalRandom.current().nextLong(jitter + 1);
+        return Duration.ofNanos(latency);
+    }
+
+    private Mono<Void> send(HttpServerResponse response, HttpResponseStatus status, Map<String, Object> body) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        }
+        return response.status(status)
+                .header("Content-Type", "application/json")
+                .sendByteArray(Mono.just(bytes))
+                .then();
+    }
+
+    private static Map<String, Object> ok(Object data) {
+        return Map.of("status", "OK", "data", data);
+    }
+
+    private static Map<String, Object> error(String message) {
+        return Map.of("status", "ERROR", "message", message);
+    }
+
+    private static Map<String, Object> fileEntry(int fileId, UploadedFile file, String publicationDate) {
+        Map<String, Object> dataFile = new LinkedHashMap<>();
+        dataFile.put("id", fileId);
+        dataFile.put("filename", file.filename());
+        dataFile.put("filesize", file.size());
+        dataFile.put("checksum", Map.of("type", "MD5", "value", file.md5()));
+        if (publicationDate != null) dataFile.put("publicationDate", publicationDate);
+        return Map.of("label", file.filename(), "dataFile", dataFile);
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record UploadedFile(String filename, long size, String md5) {
+    }
+
+    private static class Dataset {
+
+        private final int id;
+        private final String persistentId;
+        private final Map<Integer, UploadedFile> files = new LinkedHashMap<>();
+        private final Map<Integer, String> publicationDates = new HashMap<>();
+        private int version;
+        private boolean draft = true;
+        private long lockedUntilNanos;
+
+        private Dataset(int id, String persistentId) {
+            this.id = id;
+            this.persistentId = persistentId;
+        }
+
+        private synchronized void put(int fileId, UploadedFile file) {
+            this.files.put(fileId, file);
+        }
+
+        private synchronized void remove(int fileId) {
+            this.files.remove(fileId);
+            this.publicationDates.remove(fileId);
+        }
+
+        private synchronized boolean isReleased(int fileId) {
+            return this.publicationDates.containsKey(fileId);
+        }
+
+        private synchronized List<Map<String, Object>> files() {
+            List<Map<String, Object>> entries = new ArrayList<>(this.files.size());
+            this.files.forEach((fileId, file) -> entries.add(fileEntry(fileId, file, this.publicationDates.get(fileId))));
+            return entries;
+        }
+
+        private synchronized int publish(Duration lock) {
+            this.lockedUntilNanos = System.nanoTime() + lock.toNanos();
+            String publicationDate = LocalDate.now().toString();
+            for (Integer fileId : this.files.keySet()) this.publicationDates.putIfAbsent(fileId, publicationDate);
+            this.draft = false;
+            return ++this.version;
+        }
+
+        private synchronized void edit() {
+            this.draft = true;
+        }
+
+        private synchronized String versionState() {
+            return this.draft ? "DRAFT" : "RELEASED";
+        }
+
+        private synchronized boolean isLocked() {
+            return this.lockedUntilNanos - System.nanoTime() > 0;
+        }
+
+        private void checkUnlocked() {
+            if (this.isLocked()) throw new LockedException("Dataset " + this.persistentId + " cannot be edited due to dataset lock.");
+        }
+    }
+
+    private static class NotFoundException extends RuntimeException {
+        private NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    private static class BadRequestException extends RuntimeException {
+        private BadRequestException(String message) {
+            super(message);
+        }
+    }
+
+    private static class LockedException extends RuntimeException {
+        private LockedException(String message) {
+            super(message);
+        }
+    }
+
+    public static class Settings {
+
+        private String host = "localhost";
+
+        private int port = 0;
+
+        private Duration latency = Duration.ofMillis(20);
+
+        private Duration latencyJitter = Duration.ofMillis(10);
+
+        private double errorRate = 0;
+
+        private double maxRequestsPerSecond = 0;
+
+        private Duration publishLock = Duration.ofMillis(500);
+
+        public String getHost() {
+            return host;
+        }
+
+        public void setHost(String host) {
+            this.host = host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public Duration getLatency() {
+            return latency;
+        }
+
+        public void setLatency(Duration latency) {
+            this.latency = latency;
+        }
+
+        public Duration getLatencyJitter() {
+            return latencyJitter;
+        }
+
+        public void setLatencyJitter(Duration latencyJitter) {
+            this.latencyJitter = latencyJitter;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public void setErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        public double getMaxRequestsPerSecond() {
+            return maxRequestsPerSecond;
+        }
+
+        public void setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+        }
+
+        public Duration getPublishLock() {
+            return publishLock;
+        }
+
+        public void setPublishLock(Duration publishLock) {
+            this.publishLock = publishLock;
+        }
+    }
+}
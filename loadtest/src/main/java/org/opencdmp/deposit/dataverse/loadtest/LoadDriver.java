@@ -0,0 +1,231 @@
+package org.opencdmp.deposit.dataverse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.opencdmp.deposit.dataverse.service.metrics.DepositMetricsImpl;
+import org.opencdmp.deposit.dataverse.service.ratelimit.DataverseRateLimiterImpl;
+import org.opencdmp.deposit.dataverse.service.resilience.DataverseResilienceImpl;
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(120);
+
+    private final LoadSettings settings;
+    private final Deposit deposit;
+    private final SimpleMeterRegistry meterRegistry;
+
+    private final Histogram responseTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+    private final List<DepositedPlan> deposited = Collections.synchronizedList(new ArrayList<>());
+
+    public LoadDriver(LoadSettings settings, Deposit deposit, SimpleMeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.deposit = deposit;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.parse(args);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        FakeDataverseServer server = null;
+        if (settings.isServeOnly() || settings.getMode() == LoadSettings.Mode.InProcess) {
+            server = new FakeDataverseServer(settings.getServer()).start();
+            System.out.println("Fake Dataverse listening on " + server.getBaseUrl());
+        }
+
+        try {
+            if (settings.isServeOnly()) {
+                server.awaitShutdown();
+                return;
+            }
+
+            Deposit deposit = switch (settings.getMode()) {
+                case InProcess -> LoadTestSupport.depositController(LoadTestSupport.depositService(server.getBaseUrl(), settings, meterRegistry))::deposit;
+                case Http -> httpDeposit(settings);
+            };
+            new LoadDriver(settings, deposit, meterRegistry).run(server);
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    public void run(FakeDataverseServer server) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / this.settings.getRate());
+        long warmupNanos = this.settings.getWarmup().toNanos();
+        long totalNanos = warmupNanos + this.settings.getDuration().toNanos();
+        Semaphore inFlight = new Semaphore(this.settings.getMaxInFlight());
+        Random random = new Random(this.settings.getSeed());
+
+        System.out.printf("Driving %.1f deposits/s for %s after %s warmup (%s mode)%n", this.settings.getRate(), this.settings.getDuration(), this.settings.getWarmup(), this.settings.getMode());
+
+        long start = System.nanoTime();
+        long measuredCompletions = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledOffset = i * intervalNanos;
+                if (scheduledOffset >= totalNanos) break;
+                long scheduled = start + scheduledOffset;
+                long sleep = scheduled - System.nanoTime();
+                if (sleep > 0) LockSupport.parkNanos(sleep);
+
+                boolean measured = scheduledOffset >= warmupNanos;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) this.dropped.incrementAndGet();
+                    continue;
+                }
+                if (measured) measuredCompletions++;
+
+                long seed = this.settings.getSeed() + i;
+                String token = "loadtest-token-" + (i % this.settings.getTokens());
+                DepositedPlan previous = random.nextDouble() < this.settings.getVersionRatio() ? this.checkOutDeposited(random) : null;
+                executor.execute(() -> {
+                    try {
+                        this.depositOne(seed, previous != null ? previous.token() : token, previous != null ? previous.doi() : null, scheduled, measured);
+                    } finally {
+                        if (previous != null) this.deposited.add(previous);
+                        inFlight.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.out.println("In-flight deposits did not drain within " + DRAIN_TIMEOUT + ", reporting partial results");
+                executor.shutdownNow();
+            }
+        }
+        long elapsed = System.nanoTime() - start - warmupNanos;
+
+        this.report(measuredCompletions, elapsed, server);
+    }
+
+    private void depositOne(long seed, String token, String previousDOI, long scheduled, boolean measured) {
+        PlanDepositModel planDepositModel = LoadTestSupport.planDepositModel(seed, this.settings, token, previousDOI);
+        long started = System.nanoTime();
+        try {
+            String doi = this.deposit.deposit(planDepositModel);
+            long completed = System.nanoTime();
+            if (previousDOI == null && doi != null) this.deposited.add(new DepositedPlan(doi, token));
+            if (!measured) return;
+            this.succeeded.incrementAndGet();
+            this.serviceTimes.recordValue(Math.min(HIGHEST_TRACKABLE_NANOS, completed - started));
+            this.responseTimes.recordValue(Math.min(HIGHEST_TRACKABLE_NANOS, completed - scheduled));
+        } catch (Exception e) {
+            if (!measured) return;
+            String reason = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + abbreviate(e.getMessage()) : "");
+            this.failures.computeIfAbsent(reason, x -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private DepositedPlan checkOutDeposited(Random random) {
+        synchronized (this.deposited) {
+            if (this.deposited.isEmpty()) return null;
+            int index = random.nextInt(this.deposited.size());
+            DepositedPlan last = this.deposited.removeLast();
+            return index < this.deposited.size() ? this.deposited.set(index, last) : last;
+        }
+    }
+
+    private void report(long attempted, long elapsedNanos, FakeDataverseServer server) {
+        double seconds = Math.max(1, elapsedNanos) / 1_000_000_000d;
+        long failed = this.failures.values().stream().mapToLong(AtomicLong::get).sum();
+
+        System.out.println();
+        System.out.printf("Deposits attempted: %d, succeeded: %d, failed: %d, dropped (max in-flight %d): %d%n", attempted, this.succeeded.get(), failed, this.settings.getMaxInFlight(), this.dropped.get());
+        System.out.printf("Throughput: %.2f deposits/s (offered %.2f/s)%n", this.succeeded.get() / seconds, this.settings.getRate());
+        printHistogram("Response time from scheduled start (ms)", this.responseTimes);
+        printHistogram("Service time (ms)", this.serviceTimes);
+        this.failures.entrySet().stream()
+                .sorted(Map.Entry.<String, AtomicLong>comparingByValue(Comparator.comparingLong(AtomicLong::get)).reversed())
+                .limit(10)
+                .forEach(entry -> System.out.printf("  failure x%d  %s%n", entry.getValue().get(), entry.getKey()));
+
+        List<Timer> stages = this.meterRegistry.find(DepositMetricsImpl.STAGE_TIMER).timers().stream()
+                .sorted(Comparator.comparing((Timer timer) -> String.valueOf(timer.getId().getTag("stage"))).thenComparing(timer -> String.valueOf(timer.getId().getTag("outcome"))))
+                .toList();
+        if (!stages.isEmpty()) {
+            System.out.println("Stages:");
+            for (Timer timer : stages) {
+                System.out.printf("  %-8s %-13s count=%-7d mean=%8.2fms max=%8.2fms%n", timer.getId().getTag("stage"), timer.getId().getTag("outcome"), timer.count(), timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+            }
+        }
+        Timer queueWait = this.meterRegistry.find(DataverseRateLimiterImpl.QUEUE_WAIT_TIMER).timer();
+        if (queueWait != null && queueWait.count() > 0) {
+            System.out.printf("Client queue wait: count=%d mean=%.2fms max=%.2fms%n", queueWait.count(), queueWait.mean(TimeUnit.MILLISECONDS), queueWait.max(TimeUnit.MILLISECONDS));
+        }
+        for (Counter counter : this.meterRegistry.find(DataverseRateLimiterImpl.REJECTED_COUNTER).counters()) {
+            System.out.printf("Client rejections (%s): %.0f%n", counter.getId().getTag("reason"), counter.count());
+        }
+        for (Counter counter : this.meterRegistry.find(DataverseResilienceImpl.RETRY_COUNTER).counters()) {
+            System.out.printf("Retries (%s): %.0f%n", counter.getId().getTag("stage"), counter.count());
+        }
+
+        if (server != null) {
+            System.out.println("Fake Dataverse requests: " + server.getRequests());
+            System.out.printf("Fake Dataverse throttled: %d, injected errors: %d, bytes received: %d%n", server.getThrottled(), server.getInjectedErrors(), server.getBytesReceived());
+        }
+    }
+
+    private static void printHistogram(String title, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            System.out.println(title + ": no samples");
+            return;
+        }
+        System.out.printf("%s: p50=%.2f p90=%.2f p95=%.2f p99=%.2f p99.9=%.2f max=%.2f%n", title,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static String abbreviate(String message) {
+        String line = message.lines().findFirst().orElse("");
+        return line.length() > 160 ? line.substring(0, 160) + "..." : line;
+    }
+
+    private static Deposit httpDeposit(LoadSettings settings) {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        URI target = URI.create(settings.getTarget());
+        return planDepositModel -> {
+            HttpRequest.Builder request = HttpRequest.newBuilder(target)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(planDepositModel)));
+            if (settings.getBearer() != null) request.header("Authorization", "Bearer " + settings.getBearer());
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) throw new IllegalStateException("HTTP " + response.statusCode() + " " + response.body());
+            return response.body();
+        };
+    }
+
+    @FunctionalInterface
+    public interface Deposit {
+        String deposit(PlanDepositModel planDepositModel) throws Exception;
+    }
+
+    private record DepositedPlan(String doi, String token) {
+    }
+}
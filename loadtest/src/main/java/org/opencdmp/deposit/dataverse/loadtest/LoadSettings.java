@@ -0,0 +1,162 @@
+package org.opencdmp.deposit.dataverse.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadSettings {
+
+    public enum Mode {
+        InProcess,
+        Http
+    }
+
+    private Mode mode = Mode.InProcess;
+
+    private String target = "http://localhost:8080/api/deposit";
+
+    private String bearer;
+
+    private double rate = 10;
+
+    private Duration duration = Duration.ofSeconds(60);
+
+    private Duration warmup = Duration.ofSeconds(5);
+
+    private int maxInFlight = 256;
+
+    private int descriptions = 5;
+
+    private int fieldSets = 20;
+
+    private int items = 3;
+
+    private int fileSize = 256 * 1024;
+
+    private double versionRatio = 0.3;
+
+    private int tokens = 16;
+
+    private boolean clientRateLimit = false;
+
+    private long seed = 42L;
+
+    private boolean serveOnly = false;
+
+    private final FakeDataverseServer.Settings server = new FakeDataverseServer.Settings();
+
+    public static LoadSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unexpected argument " + arg + ", expected --key=value");
+            int separator = arg.indexOf('=');
+            if (separator < 0) values.put(arg.substring(2), "true");
+            else values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadSettings settings = new LoadSettings();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "mode" -> settings.mode = "http".equalsIgnoreCase(value) ? Mode.Http : Mode.InProcess;
+                case "target" -> settings.target = value;
+                case "bearer" -> settings.bearer = value;
+                case "rate" -> settings.rate = Double.parseDouble(value);
+                case "duration" -> settings.duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> settings.warmup = DurationStyle.detectAndParse(value);
+                case "maxInFlight" -> settings.maxInFlight = Integer.parseInt(value);
+                case "descriptions" -> settings.descriptions = Integer.parseInt(value);
+                case "fieldSets" -> settings.fieldSets = Integer.parseInt(value);
+                case "items" -> settings.items = Integer.parseInt(value);
+                case "fileSize" -> settings.fileSize = Integer.parseInt(value);
+                case "versionRatio" -> settings.versionRatio = Double.parseDouble(value);
+                case "tokens" -> settings.tokens = Integer.parseInt(value);
+                case "clientRateLimit" -> settings.clientRateLimit = Boolean.parseBoolean(value);
+                case "seed" -> settings.seed = Long.parseLong(value);
+                case "serveOnly" -> settings.serveOnly = Boolean.parseBoolean(value);
+                case "host" -> settings.server.setHost(value);
+                case "port" -> settings.server.setPort(Integer.parseInt(value));
+                case "latency" -> settings.server.setLatency(DurationStyle.detectAndParse(value));
+                case "latencyJitter" -> settings.server.setLatencyJitter(DurationStyle.detectAndParse(value));
+                case "errorRate" -> settings.server.setErrorRate(Double.parseDouble(value));
+                case "serverRps" -> settings.server.setMaxRequestsPerSecond(Double.parseDouble(value));
+                case "publishLock" -> settings.server.setPublishLock(DurationStyle.detectAndParse(value));
+                default -> throw new IllegalArgumentException("Unknown option --" + entry.getKey());
+            }
+        }
+        if (settings.rate <= 0) throw new IllegalArgumentException("--rate must be positive");
+        if (settings.tokens <= 0) throw new IllegalArgumentException("--tokens must be positive");
+        if (settings.fileSize <= 0) throw new IllegalArgumentException("--fileSize must be positive");
+        return settings;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public String getBearer() {
+        return bearer;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getDescriptions() {
+        return descriptions;
+    }
+
+    public int getFieldSets() {
+        return fieldSets;
+    }
+
+    public int getItems() {
+        return items;
+    }
+
+    public int getFileSize() {
+        return fileSize;
+    }
+
+    public double getVersionRatio() {
+        return versionRatio;
+    }
+
+    public int getTokens() {
+        return tokens;
+    }
+
+    public boolean isClientRateLimit() {
+        return clientRateLimit;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isServeOnly() {
+        return serveOnly;
+    }
+
+    public FakeDataverseServer.Settings getServer() {
+        return server;
+    }
+}
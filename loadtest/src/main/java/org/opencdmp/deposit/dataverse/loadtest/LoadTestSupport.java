@@ -0,0 +1,115 @@
+package org.opencdmp.deposit.dataverse.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.opencdmp.commonmodels.models.FileEnvelopeModel;
+import org.opencdmp.commonmodels.models.plan.PlanModel;
+import org.opencdmp.deposit.dataverse.benchmark.BenchmarkSupport;
+import org.opencdmp.deposit.controller.DepositController;
+import org.opencdmp.deposit.dataverse.benchmark.PlanModelGenerator;
+import org.opencdmp.deposit.dataverse.service.dataverse.*;
+import org.opencdmp.deposit.dataverse.service.depositbatch.DepositBatchProperties;
+import org.opencdmp.deposit.dataverse.service.depositbatch.DepositBatchServiceImpl;
+import org.opencdmp.deposit.dataverse.service.depositjob.DepositJobProperties;
+import org.opencdmp.deposit.dataverse.service.depositjob.DepositJobServiceImpl;
+import org.opencdmp.deposit.dataverse.service.idempotency.DepositIdempotencyCacheProperties;
+import org.opencdmp.deposit.dataverse.service.idempotency.DepositIdempotencyServiceImpl;
+import org.opencdmp.deposit.dataverse.service.journal.DepositJournalImpl;
+import org.opencdmp.deposit.dataverse.service.journal.DepositJournalProperties;
+import org.opencdmp.deposit.dataverse.service.metrics.DepositMetricsImpl;
+import org.opencdmp.deposit.dataverse.service.ratelimit.DataverseRateLimiterImpl;
+import org.opencdmp.deposit.dataverse.service.resilience.DataverseResilienceImpl;
+import org.opencdmp.deposit.dataverse.service.storage.FileStorageServiceImpl;
+import org.opencdmp.deposit.dataverse.service.storage.FileStorageServiceProperties;
+import org.opencdmp.deposit.dataverse.service.tracing.DepositTracingImpl;
+import org.opencdmp.depositbase.repository.DepositAuthInfo;
+import org.opencdmp.depositbase.repository.DepositConfiguration;
+import org.opencdmp.depositbase.repository.PlanDepositModel;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+
+public final class LoadTestSupport {
+
+    public static final String REPOSITORY_ID = "dataverse";
+
+    private LoadTestSupport() {
+    }
+
+    public static DataverseDepositServiceImpl depositService(String repositoryUrl, LoadSettings settings, MeterRegistry meterRegistry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+
+        DataverseServiceProperties properties = BenchmarkSupport.dataverseServiceProperties();
+        properties.setDepositConfiguration(depositConfiguration(repositoryUrl));
+        properties.setMaxInMemorySizeInBytes(6554000);
+        properties.getRateLimit().setEnabled(settings.isClientRateLimit());
+
+        DepositTracingImpl depositTracing = new DepositTracingImpl(beanFactory.getBeanProvider(Tracer.class), beanFactory.getBeanProvider(Propagator.class));
+        DataverseRateLimiterImpl rateLimiter = new DataverseRateLimiterImpl(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+        DataverseServiceConfiguration configuration = new DataverseServiceConfiguration();
+        WebClient webClient = configuration.dataverseWebClient(properties, configuration.dataverseConnectionProvider(properties), depositTracing, rateLimiter);
+        DepositJournalProperties journalProperties = new DepositJournalProperties();
+        journalProperties.setPath(Path.of(System.getProperty("java.io.tmpdir"), "dataverse-loadtest-journal-" + ProcessHandle.current().pid()).toString());
+
+        return new DataverseDepositServiceImpl(properties, BenchmarkSupport.dataverseBuilder(true), new FileStorageServiceImpl(new FileStorageServiceProperties(System.getProperty("java.io.tmpdir"), System.getProperty("java.io.tmpdir"))), new DefaultResourceLoader(), webClient,
+                new DataverseDatasetWriter(), new DepositMetricsImpl(beanFactory.getBeanProvider(MeterRegistry.class)), depositTracing,
+                new DataverseResilienceImpl(properties, beanFactory.getBeanProvider(MeterRegistry.class)),
+                new DepositIdempotencyServiceImpl(beanFactory.getBeanProvider(CacheManager.class), new DepositIdempotencyCacheProperties(), beanFactory.getBeanProvider(MeterRegistry.class)),
+                new DepositJournalImpl(journalProperties), beanFactory.getBeanProvider(CacheManager.class), new LogoCacheProperties());
+    }
+
+    public static DepositController depositController(DataverseDepositService depositService) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        DepositTracingImpl depositTracing = new DepositTracingImpl(beanFactory.getBeanProvider(Tracer.class), beanFactory.getBeanProvider(Propagator.class));
+
+        return new DepositController(depositService, new DepositJobServiceImpl(depositService, new DepositJobProperties(), depositTracing),
+                new DepositBatchServiceImpl(depositService, new DepositBatchProperties(), depositTracing), new NoOpAuditService());
+    }
+
+    public static DepositConfiguration depositConfiguration(String repositoryUrl) {
+        DepositConfiguration depositConfiguration = new DepositConfiguration();
+        depositConfiguration.setRepositoryId(REPOSITORY_ID);
+        depositConfiguration.setRepositoryUrl(repositoryUrl);
+        depositConfiguration.setAccessToken("loadtest-token");
+        depositConfiguration.setHasLogo(false);
+        depositConfiguration.setUseSharedStorage(false);
+        return depositConfiguration;
+    }
+
+    public static PlanDepositModel planDepositModel(long seed, LoadSettings settings, String token, String previousDOI) {
+        PlanModel planModel = new PlanModelGenerator(seed).generate(settings.getDescriptions(), settings.getFieldSets(), settings.getItems());
+        planModel.setPreviousDOI(previousDOI);
+
+        Random random = new Random(seed);
+        planModel.setPdfFile(file("plan.pdf", "application/pdf", settings.getFileSize(), random));
+        planModel.setRdaJsonFile(file("plan-rda.json", "application/json", Math.max(1, settings.getFileSize() / 4), random));
+
+        DepositAuthInfo authInfo = new DepositAuthInfo();
+        authInfo.setAuthToken(token);
+
+        PlanDepositModel planDepositModel = new PlanDepositModel();
+        planDepositModel.setPlanModel(planModel);
+        planDepositModel.setAuthInfo(authInfo);
+        return planDepositModel;
+    }
+
+    private static FileEnvelopeModel file(String filename, String mimeType, int size, Random random) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        byte[] header = filename.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(header, 0, content, 0, Math.min(header.length, content.length));
+
+        FileEnvelopeModel fileEnvelopeModel = new FileEnvelopeModel();
+        fileEnvelopeModel.setFilename(filename);
+        fileEnvelopeModel.setMimeType(mimeType);
+        fileEnvelopeModel.setFile(content);
+        return fileEnvelopeModel;
+    }
+}
@@ -0,0 +1,21 @@
+package org.opencdmp.deposit.dataverse.loadtest;
+
+import gr.cite.tools.auditing.AuditService;
+import gr.cite.tools.logging.EventId;
+
+import java.util.Map;
+
+public class NoOpAuditService extends AuditService {
+
+    @Override
+    public void track(EventId eventId) {
+    }
+
+    @Override
+    public void track(EventId eventId, Map<String, Object> data) {
+    }
+
+    @Override
+    public void track(EventId eventId, String key, Object value) {
+    }
+}
@@ -0,0 +1,21 @@
+package org.opencdmp.deposit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.cite.tools.auditing.AuditService;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({MetadataCacheProperties.class})
+public class MetadataCacheConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<MetadataCacheFilter> metadataCacheFilter(DataverseDepositService depositService, ObjectMapper objectMapper, AuditService auditService, MetadataCacheProperties properties) {
+        FilterRegistrationBean<MetadataCacheFilter> registration = new FilterRegistrationBean<>(new MetadataCacheFilter(depositService, objectMapper, auditService, properties));
+        registration.addUrlPatterns(MetadataCacheFilter.LOGO_PATH, MetadataCacheFilter.CONFIGURATION_PATH);
+        return registration;
+    }
+}
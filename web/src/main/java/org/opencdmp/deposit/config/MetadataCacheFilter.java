@@ -0,0 +1,103 @@
+package org.opencdmp.deposit.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.cite.tools.auditing.AuditService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.opencdmp.deposit.dataverse.audit.AuditableAction;
+import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class MetadataCacheFilter extends OncePerRequestFilter {
+
+    public static final String LOGO_PATH = "/api/deposit/logo";
+    public static final String CONFIGURATION_PATH = "/api/deposit/configuration";
+
+    private final DataverseDepositService depositService;
+    private final ObjectMapper objectMapper;
+    private final AuditService auditService;
+    private final String cacheControl;
+    private final UrlPathHelper urlPathHelper;
+
+    private volatile SerializedConfiguration configuration;
+
+    public MetadataCacheFilter(DataverseDepositService depositService, ObjectMapper objectMapper, AuditService auditService, MetadataCacheProperties properties) {
+        this.depositService = depositService;
+        this.objectMapper = objectMapper;
+        this.auditService = auditService;
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge().toSeconds(), TimeUnit.SECONDS).cachePrivate().getHeaderValue();
+        this.urlPathHelper = new UrlPathHelper();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) return true;
+        String path = this.urlPathHelper.getPathWithinApplication(request);
+        return !LOGO_PATH.equals(path) && !CONFIGURATION_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean logo = LOGO_PATH.equals(this.urlPathHelper.getPathWithinApplication(request));
+        SerializedConfiguration configuration = logo ? null : this.configuration();
+        String eTag = logo ? this.depositService.getLogoETag() : configuration.eTag();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, this.cacheControl);
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        if (logo) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(configuration.body().length);
+        response.getOutputStream().write(configuration.body());
+        this.auditService.track(AuditableAction.Deposit_GetConfiguration);
+    }
+
+    private SerializedConfiguration configuration() {
+        SerializedConfiguration current = this.configuration;
+        if (current == null) {
+            byte[] body;
+            try {
+                body = this.objectMapper.writeValueAsBytes(this.depositService.getConfiguration());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            current = new SerializedConfiguration(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            this.configuration = current;
+        }
+        return current;
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.strip();
+            if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+            if (candidate.equals("*") || candidate.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    private record SerializedConfiguration(byte[] body, String eTag) {
+    }
+}
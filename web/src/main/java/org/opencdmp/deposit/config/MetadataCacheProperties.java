@@ -0,0 +1,19 @@
+package org.opencdmp.deposit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "deposit.metadata")
+public class MetadataCacheProperties {
+
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+}
@@ -7,13 +7,20 @@ import org.opencdmp.commonmodels.models.plan.PlanModel;
 import org.opencdmp.deposit.dataverse.audit.AuditableAction;
 import org.opencdmp.depositbase.repository.DepositConfiguration;
 import org.opencdmp.deposit.dataverse.service.dataverse.DataverseDepositService;
+import org.opencdmp.deposit.dataverse.service.depositbatch.DepositBatchResult;
+import org.opencdmp.deposit.dataverse.service.depositbatch.DepositBatchService;
+import org.opencdmp.deposit.dataverse.service.depositjob.DepositJob;
+import org.opencdmp.deposit.dataverse.service.depositjob.DepositJobService;
 import org.opencdmp.depositbase.repository.PlanDepositModel;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.AbstractMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/deposit")
@@ -22,11 +29,17 @@ public class DepositController implements org.opencdmp.depositbase.repository.De
 
     private final DataverseDepositService depositClient;
 
+    private final DepositJobService depositJobService;
+
+    private final DepositBatchService depositBatchService;
+
     private final AuditService auditService;
 
     @Autowired
-    public DepositController(DataverseDepositService depositClient, AuditService auditService) {
+    public DepositController(DataverseDepositService depositClient, DepositJobService depositJobService, DepositBatchService depositBatchService, AuditService auditService) {
         this.depositClient = depositClient;
+        this.depositJobService = depositJobService;
+        this.depositBatchService = depositBatchService;
 	    this.auditService = auditService;
     }
 
@@ -41,6 +54,44 @@ public class DepositController implements org.opencdmp.depositbase.repository.De
         return doiId;
     }
 
+    @PostMapping("/batch")
+    public List<DepositBatchResult> depositBatch(@RequestBody List<PlanDepositModel> planDepositModels) {
+        logger.debug(new MapLogEntry("deposit batch of " + PlanModel.class.getSimpleName()).And("count", planDepositModels != null ? planDepositModels.size() : 0));
+
+        List<DepositBatchResult> results = this.depositBatchService.deposit(planDepositModels);
+
+        this.auditService.track(AuditableAction.Deposit_DepositBatch, Map.ofEntries(
+                new AbstractMap.SimpleEntry<String, Object>("planDepositModels", planDepositModels)
+        ));
+        return results;
+    }
+
+    @PostMapping("/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public DepositJob submitDepositJob(@RequestBody PlanDepositModel planDepositModel) {
+        logger.debug(new MapLogEntry("submit deposit job " + PlanModel.class.getSimpleName()).And("planDepositModel", planDepositModel));
+
+        DepositJob job = this.depositJobService.submit(planDepositModel);
+
+        this.auditService.track(AuditableAction.Deposit_SubmitJob, Map.ofEntries(
+                new AbstractMap.SimpleEntry<String, Object>("planDepositModel", planDepositModel),
+                new AbstractMap.SimpleEntry<String, Object>("jobId", job.getId())
+        ));
+        return job;
+    }
+
+    @GetMapping("/jobs/{id}")
+    public DepositJob getDepositJob(@PathVariable("id") UUID id) {
+        logger.debug(new MapLogEntry("get deposit job").And("id", id));
+
+        DepositJob job = this.depositJobService.get(id);
+
+        this.auditService.track(AuditableAction.Deposit_GetJob, Map.ofEntries(
+                new AbstractMap.SimpleEntry<String, Object>("jobId", id)
+        ));
+        return job;
+    }
+
     public String authenticate(@RequestParam("authToken") String code) {
         logger.debug(new MapLogEntry("authenticate " + PlanModel.class.getSimpleName()));
 